@@ -0,0 +1,37 @@
+package chess.bench;
+
+import chess.Board;
+import chess.Evaluator;
+import chess.FEN;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EvaluatorBenchmark {
+
+    @Param({Positions.OPENING, Positions.MIDDLEGAME, Positions.ENDGAME, Positions.KIWIPETE})
+    private String position;
+
+    private Board board;
+    private Evaluator evaluator;
+
+    @Setup
+    public void setUp() {
+
+        board = new FEN().setFen(Positions.getFen(position));
+        evaluator = new Evaluator();
+
+    }
+
+    @Benchmark
+    public int getScore() {
+        return evaluator.getScore(board);
+    }
+
+}
@@ -0,0 +1,43 @@
+package chess.bench;
+
+import chess.Board;
+import chess.FEN;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FenBenchmark {
+
+    @Param({Positions.OPENING, Positions.MIDDLEGAME, Positions.ENDGAME, Positions.KIWIPETE})
+    private String position;
+
+    private String fen;
+    private FEN fenctionality;
+    private Board board;
+
+    @Setup
+    public void setUp() {
+
+        fen = Positions.getFen(position);
+        fenctionality = new FEN();
+        board = fenctionality.setFen(fen);
+
+    }
+
+    @Benchmark
+    public Board setFen() {
+        return fenctionality.setFen(fen);
+    }
+
+    @Benchmark
+    public String getFen() {
+        return fenctionality.getFen(board);
+    }
+
+}
@@ -0,0 +1,62 @@
+package chess.bench;
+
+import chess.Engine;
+import chess.Perft;
+import chess.SearchResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// legal generation against pseudo legal generation with a legality check per move, in perft (where every move is
+// checked) and in the search (where moves after a cutoff are never checked)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LegalityBenchmark {
+
+    @Param({Positions.OPENING, Positions.MIDDLEGAME, Positions.ENDGAME, Positions.KIWIPETE})
+    private String position;
+
+    @Param({"false", "true"})
+    private boolean pseudoLegal;
+
+    @Param({"4"})
+    private int perftDepth;
+
+    @Param({"6"})
+    private int searchDepth;
+
+    private Perft perft;
+    private Engine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        perft = new Perft(Positions.getFen(position), perftDepth);
+        perft.setPseudoLegal(pseudoLegal);
+
+        engine = new Engine(Positions.getFen(position));
+        engine.setPseudoLegal(pseudoLegal);
+
+    }
+
+    // every search starts from an empty table so each one does the same work
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        engine.getTranspositionTable().clear();
+    }
+
+    @Benchmark
+    public long perft() {
+        return perft.getNodes(perftDepth);
+    }
+
+    @Benchmark
+    public SearchResult search() {
+        return engine.search(searchDepth);
+    }
+
+}
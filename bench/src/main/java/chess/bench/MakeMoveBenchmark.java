@@ -0,0 +1,49 @@
+package chess.bench;
+
+import chess.Game;
+import chess.MoveGenerator;
+import chess.MoveList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MakeMoveBenchmark {
+
+    @Param({Positions.OPENING, Positions.MIDDLEGAME, Positions.ENDGAME, Positions.KIWIPETE})
+    private String position;
+
+    private Game game;
+    private MoveList moveList;
+
+    @Setup
+    public void setUp() {
+
+        game = new Game(Positions.getFen(position));
+        moveList = new MoveList();
+        new MoveGenerator().generateLegalMoves(game.getBoard(), moveList);
+
+    }
+
+    // plays and takes back every legal move of the position, so the time is for all of them
+    @Benchmark
+    public long moveAndUnMove() {
+
+        long keys = 0;
+
+        for (int i = 0; i < moveList.size(); i++) {
+            game.move(moveList.get(i));
+            keys ^= game.getBoard().getKey();
+            game.unMove();
+        }
+
+        return keys;
+
+    }
+
+}
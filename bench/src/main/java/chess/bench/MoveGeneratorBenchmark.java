@@ -0,0 +1,48 @@
+package chess.bench;
+
+import chess.Board;
+import chess.FEN;
+import chess.MoveGenerator;
+import chess.MoveList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveGeneratorBenchmark {
+
+    @Param({Positions.OPENING, Positions.MIDDLEGAME, Positions.ENDGAME, Positions.KIWIPETE})
+    private String position;
+
+    private Board board;
+    private MoveGenerator moveGenerator;
+    private MoveList moveList;
+
+    @Setup
+    public void setUp() {
+
+        board = new FEN().setFen(Positions.getFen(position));
+        moveGenerator = new MoveGenerator();
+        moveList = new MoveList();
+
+    }
+
+    @Benchmark
+    public int generateLegalMoves() {
+
+        moveGenerator.generateLegalMoves(board, moveList);
+        return moveList.size();
+
+    }
+
+    @Benchmark
+    public int countLegalMoves() {
+        return moveGenerator.countLegalMoves(board);
+    }
+
+}
@@ -0,0 +1,28 @@
+package chess.bench;
+
+import chess.FEN;
+
+public class Positions {
+
+    // names used as the @Param values of the benchmarks
+    public static final String OPENING = "opening";
+    public static final String MIDDLEGAME = "middlegame";
+    public static final String ENDGAME = "endgame";
+    public static final String KIWIPETE = "kiwipete";
+
+    private Positions() {
+    }
+
+    public static String getFen(String name) {
+
+        return switch (name) {
+            case OPENING -> FEN.startFen;
+            case MIDDLEGAME -> "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+            case ENDGAME -> "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+            case KIWIPETE -> "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+            default -> throw new IllegalArgumentException("Unknown position: " + name);
+        };
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package chess.bench;
+
+import chess.Engine;
+import chess.SearchResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    @Param({Positions.OPENING, Positions.MIDDLEGAME, Positions.ENDGAME, Positions.KIWIPETE})
+    private String position;
+
+    @Param({"5"})
+    private int depth;
+
+    private Engine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        engine = new Engine(Positions.getFen(position));
+    }
+
+    // every search starts from an empty table so each one does the same work
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        engine.getTranspositionTable().clear();
+    }
+
+    @Benchmark
+    public SearchResult search() {
+        return engine.search(depth);
+    }
+
+}
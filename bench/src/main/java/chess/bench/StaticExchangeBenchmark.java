@@ -0,0 +1,50 @@
+package chess.bench;
+
+import chess.Board;
+import chess.FEN;
+import chess.MoveGenerator;
+import chess.MoveList;
+import chess.StaticExchange;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// static exchange evaluations per second, cycling through every legal capture in the position
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaticExchangeBenchmark {
+
+    // the opening has no captures, so it isn't one of the positions
+    @Param({Positions.MIDDLEGAME, Positions.ENDGAME, Positions.KIWIPETE})
+    private String position;
+
+    private Board board;
+    private StaticExchange staticExchange;
+    private MoveList captures;
+    private int index;
+
+    @Setup
+    public void setUp() {
+
+        board = new FEN().setFen(Positions.getFen(position));
+        staticExchange = new StaticExchange();
+        captures = new MoveList();
+        new MoveGenerator().generateLegalCaptures(board, captures);
+        index = 0;
+
+    }
+
+    @Benchmark
+    public int evaluate() {
+
+        int move = captures.get(index);
+        index = index + 1 == captures.size() ? 0 : index + 1;
+        return staticExchange.evaluate(board, move);
+
+    }
+
+}
@@ -0,0 +1,22 @@
+package chess.cli;
+
+import chess.Game;
+
+import java.io.IOException;
+
+public class Main {
+    public static void main(String[] args) throws IOException {
+
+        String startingFEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+        // "uci" runs the engine for a GUI or tournament manager instead of the game in the console
+        if (args.length > 0 && args[0].equals("uci")) {
+            new Uci().run();
+            return;
+        }
+
+        Game game = new Game();
+        game.play();
+
+    }
+}
\ No newline at end of file
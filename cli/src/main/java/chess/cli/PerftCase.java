@@ -0,0 +1,67 @@
+package chess.cli;
+
+import chess.Perft;
+
+public class PerftCase {
+
+    private final String fen;
+    private final int depth;
+    // node count the case should have
+    private final long expectedNodes;
+    // node count and time of the last run, -1 before it has run
+    private long actualNodes;
+    private long nanos;
+
+    public PerftCase(String fen, int depth, long expectedNodes) {
+
+        this.fen = fen;
+        this.depth = depth;
+        this.expectedNodes = expectedNodes;
+        actualNodes = -1;
+        nanos = 0;
+
+    }
+
+    // counts the case's nodes, timing it
+    public void run(boolean pseudoLegal) {
+
+        Perft perft = new Perft(fen, depth);
+        perft.setBulkCounting(true);
+        perft.setPseudoLegal(pseudoLegal);
+
+        long startTime = System.nanoTime();
+        actualNodes = perft.getNodes(depth);
+        nanos = System.nanoTime() - startTime;
+
+    }
+
+    public boolean isPassed() {
+        return actualNodes == expectedNodes;
+    }
+
+    public String getFen() {
+        return fen;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getExpectedNodes() {
+        return expectedNodes;
+    }
+
+    public long getActualNodes() {
+        return actualNodes;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        return (isPassed() ? "PASS" : "FAIL") + "  depth " + depth + "  expected " + expectedNodes + "  actual " + actualNodes + "  " + nanos / 1000000 + " ms  " + fen;
+    }
+
+}
@@ -0,0 +1,216 @@
+package chess.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class PerftSuite {
+
+    // the suite run when no files are given, bundled in the jar
+    public static final String DEFAULT_SUITE = "/tests.txt";
+
+    // one {"depth":.., "nodes":.., "fen":".."} object of the JSON suite. Keys can be in any order
+    private static final Pattern JSON_OBJECT = Pattern.compile("\\{([^}]*)}");
+    private static final Pattern JSON_DEPTH = Pattern.compile("\"depth\"\\s*:\\s*(\\d+)");
+    private static final Pattern JSON_NODES = Pattern.compile("\"nodes\"\\s*:\\s*(\\d+)");
+    private static final Pattern JSON_FEN = Pattern.compile("\"fen\"\\s*:\\s*\"([^\"]*)\"");
+    // one ";D5 4865609" count of an EPD suite line
+    private static final Pattern EPD_COUNT = Pattern.compile(";\\s*D(\\d+)\\s+(\\d+)");
+
+    private final List<PerftCase> cases;
+    private int threads;
+    // counts with pseudo legal generation and a legality check per move, to check that against the same counts
+    private boolean pseudoLegal;
+
+    public PerftSuite() {
+
+        cases = new ArrayList<>();
+        threads = Runtime.getRuntime().availableProcessors();
+        pseudoLegal = false;
+
+    }
+
+    // runs the suites given as arguments, or the bundled tests.txt, exiting with 1 if any count is wrong. Options:
+    // --threads N to set the threads used, --max-depth N to skip EPD counts deeper than N, --pseudo-legal to count
+    // with pseudo legal generation
+    public static void main(String[] args) throws IOException {
+
+        PerftSuite suite = new PerftSuite();
+        int maxDepth = Integer.MAX_VALUE;
+        List<String> files = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads" -> suite.setThreads(Integer.parseInt(args[++i]));
+                case "--max-depth" -> maxDepth = Integer.parseInt(args[++i]);
+                case "--pseudo-legal" -> suite.setPseudoLegal(true);
+                default -> files.add(args[i]);
+            }
+        }
+
+        if (files.isEmpty()) {
+            suite.loadDefault();
+        }
+
+        for (String file : files) {
+            suite.load(Path.of(file), maxDepth);
+        }
+
+        System.exit(suite.run() ? 0 : 1);
+
+    }
+
+    // loads an EPD suite if the file ends in .epd, a JSON suite otherwise
+    public void load(Path path, int maxDepth) throws IOException {
+
+        String content = Files.readString(path);
+
+        if (path.toString().toLowerCase().endsWith(".epd")) {
+            loadEpd(content, maxDepth);
+        } else {
+            loadJson(content);
+        }
+
+    }
+
+    // the JSON suite bundled with the runner
+    public void loadDefault() throws IOException {
+
+        try (InputStream in = PerftSuite.class.getResourceAsStream(DEFAULT_SUITE)) {
+
+            if (in == null) {
+                throw new IOException("Missing resource " + DEFAULT_SUITE);
+            }
+            loadJson(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+
+        }
+
+    }
+
+    // a JSON list of {"depth": d, "nodes": n, "fen": "..."} objects
+    public void loadJson(String content) {
+
+        Matcher object = JSON_OBJECT.matcher(content);
+
+        while (object.find()) {
+
+            String fields = object.group(1);
+            Matcher depth = JSON_DEPTH.matcher(fields);
+            Matcher nodes = JSON_NODES.matcher(fields);
+            Matcher fen = JSON_FEN.matcher(fields);
+
+            if (!depth.find() || !nodes.find() || !fen.find()) {
+                throw new IllegalArgumentException("Perft case needs depth, nodes and fen: {" + fields + "}");
+            }
+
+            cases.add(new PerftCase(fen.group(1), Integer.parseInt(depth.group(1)), Long.parseLong(nodes.group(1))));
+
+        }
+
+    }
+
+    // lines of a FEN followed by counts for each depth, ex: "<fen> ;D1 20 ;D2 400 ;D3 8902". Every count up to
+    // maxDepth becomes a case
+    public void loadEpd(String content, int maxDepth) {
+
+        for (String line : content.split("\\R")) {
+
+            int countsStart = line.indexOf(';');
+            if (line.isBlank() || line.startsWith("#") || countsStart == -1) {
+                continue;
+            }
+
+            String fen = line.substring(0, countsStart).trim();
+            Matcher count = EPD_COUNT.matcher(line.substring(countsStart));
+
+            while (count.find()) {
+                int depth = Integer.parseInt(count.group(1));
+                if (depth <= maxDepth) {
+                    cases.add(new PerftCase(fen, depth, Long.parseLong(count.group(2))));
+                }
+            }
+
+        }
+
+    }
+
+    // runs every case across the threads, printing each result as it finishes in order, then a summary. Returns if
+    // every count was right
+    public boolean run() {
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long startTime = System.nanoTime();
+
+        try {
+
+            List<Future<?>> futures = new ArrayList<>(cases.size());
+            for (PerftCase perftCase : cases) {
+                futures.add(executor.submit(() -> perftCase.run(pseudoLegal)));
+            }
+
+            int failed = 0;
+            long nodes = 0;
+
+            for (int i = 0; i < cases.size(); i++) {
+
+                try {
+                    futures.get(i).get();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Perft case crashed: " + cases.get(i).getFen(), e);
+                }
+
+                PerftCase perftCase = cases.get(i);
+                System.out.println(perftCase);
+
+                nodes += Math.max(0, perftCase.getActualNodes());
+                if (!perftCase.isPassed()) {
+                    failed++;
+                }
+
+            }
+
+            long nanos = System.nanoTime() - startTime;
+
+            System.out.println();
+            System.out.println((cases.size() - failed) + "/" + cases.size() + " passed, " + failed + " failed");
+            System.out.println(nodes + " nodes in " + nanos / 1000000 + " milliseconds with " + threads + " threads: " +
+                    (nanos == 0 ? 0 : nodes * 1000000000L / nanos) + " nps");
+
+            return failed == 0;
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    public List<PerftCase> getCases() {
+        return cases;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    public boolean isPseudoLegal() {
+        return pseudoLegal;
+    }
+
+    public void setPseudoLegal(boolean pseudoLegal) {
+        this.pseudoLegal = pseudoLegal;
+    }
+
+}
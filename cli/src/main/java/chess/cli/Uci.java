@@ -0,0 +1,329 @@
+package chess.cli;
+
+import chess.Engine;
+import chess.FEN;
+import chess.HashTables;
+import chess.Move;
+import chess.SearchLimits;
+import chess.SearchResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+public class Uci {
+
+    private static final String NAME = "Chess";
+    private static final String AUTHOR = "tonyyu2170";
+    // go parameters that take a value
+    private static final Set<String> LIMITS = Set.of("depth", "movetime", "wtime", "btime", "winc", "binc", "movestogo");
+
+    private final Engine engine;
+    // thread running the current search, null if there isn't one
+    private Thread searchThread;
+    // counted down by stop, so an infinite search that ran out of depth still waits before giving its best move
+    private CountDownLatch stopReceived;
+    // set by debug on, which sends search statistics as info strings along with the best move. Read by the search thread
+    private volatile boolean debug;
+
+    public Uci() {
+
+        engine = new Engine();
+        engine.setIterationListener(result -> send("info " + result));
+        searchThread = null;
+        stopReceived = new CountDownLatch(0);
+        debug = false;
+
+    }
+
+    public static void main(String[] args) throws IOException {
+        new Uci().run();
+    }
+
+    // reads commands from standard input until quit or the input ends
+    public void run() throws IOException {
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        String line;
+
+        while ((line = in.readLine()) != null) {
+            if (!handleCommand(line.trim())) {
+                break;
+            }
+        }
+
+        stopSearch();
+
+    }
+
+    // returns false if the command was quit
+    public boolean handleCommand(String line) {
+
+        String [] tokens = line.split("\\s+");
+
+        switch (tokens[0]) {
+            case "uci" -> {
+                send("id name " + NAME);
+                send("id author " + AUTHOR);
+                send("option name Hash type spin default " + Engine.DEFAULT_HASH_MB + " min 1 max " + HashTables.MAX_SIZE_MB);
+                send("option name Threads type spin default 1 min 1 max " + Engine.MAX_THREADS);
+                send("uciok");
+            }
+            case "debug" -> debug = tokens.length > 1 && tokens[1].equals("on");
+            case "isready" -> send("readyok");
+            case "ucinewgame" -> {
+                stopSearch();
+                engine.newGame();
+            }
+            case "setoption" -> {
+                stopSearch();
+                setOption(tokens);
+            }
+            case "position" -> {
+                stopSearch();
+                setPosition(tokens);
+            }
+            case "go" -> {
+                stopSearch();
+                startSearch(parseLimits(tokens));
+            }
+            case "stop" -> stopSearch();
+            case "d" -> engine.getGame().getBoard().printBoard();
+            case "quit" -> {
+                return false;
+            }
+            default -> {
+                if (!line.isEmpty()) {
+                    send("info string unknown command: " + line);
+                }
+            }
+        }
+
+        return true;
+
+    }
+
+    // setoption name <id> value <x>
+    private void setOption(String [] tokens) {
+
+        String name = valueAfter(tokens, "name");
+        String value = valueAfter(tokens, "value");
+
+        if (name == null || value == null) {
+            return;
+        }
+
+        try {
+            switch (name.toLowerCase()) {
+                case "hash" -> setHashSize(Integer.parseInt(value));
+                case "threads" -> engine.setThreads(Integer.parseInt(value));
+                default -> send("info string unknown option: " + name);
+            }
+        } catch (NumberFormatException e) {
+            send("info string bad value for " + name + ": " + value);
+        }
+
+    }
+
+    // the table is a power of two size no bigger than HashTables.MAX_SIZE_MB, so the size asked for is rounded
+    // down, and the GUI is told if it was. A size the heap can't hold keeps the old table
+    private void setHashSize(int sizeMB) {
+
+        try {
+            engine.setHashSize(sizeMB);
+        } catch (OutOfMemoryError e) {
+            send("info string not enough memory for hash of " + sizeMB + " MB, keeping " + engine.getTranspositionTable().getSizeMB() + " MB");
+            return;
+        }
+
+        int actualSizeMB = engine.getTranspositionTable().getSizeMB();
+        if (actualSizeMB != sizeMB) {
+            send("info string hash set to " + actualSizeMB + " MB");
+        }
+
+    }
+
+    // position [startpos | fen <fen>] [moves <move1> ... <movei>]
+    private void setPosition(String [] tokens) {
+
+        int movesIndex = tokens.length;
+        for (int i = 1; i < tokens.length; i++) {
+            if (tokens[i].equals("moves")) {
+                movesIndex = i;
+                break;
+            }
+        }
+
+        // a bad FEN keeps the last position, and its moves aren't played
+        try {
+            if (tokens.length > 1 && tokens[1].equals("fen")) {
+                engine.setPosition(String.join(" ", Arrays.copyOfRange(tokens, 2, movesIndex)));
+            } else {
+                engine.setPosition(FEN.startFen);
+            }
+        } catch (IllegalArgumentException e) {
+            send("info string bad position: " + e.getMessage());
+            return;
+        }
+
+        for (int i = movesIndex + 1; i < tokens.length; i++) {
+
+            Move move = engine.getGame().isValidMove(tokens[i]);
+            if (move == null) {
+                send("info string illegal move: " + tokens[i]);
+                return;
+            }
+            engine.getGame().move(move);
+
+        }
+
+    }
+
+    // go [depth <x>] [movetime <x>] [wtime <x>] [btime <x>] [winc <x>] [binc <x>] [movestogo <x>] [infinite]. A limit
+    // with a missing or bad value is reported and left out, and the search still runs, since the GUI waits for a bestmove
+    private SearchLimits parseLimits(String [] tokens) {
+
+        SearchLimits limits = new SearchLimits();
+
+        for (int i = 1; i < tokens.length; i++) {
+
+            String name = tokens[i];
+            if (name.equals("infinite")) {
+                limits.setInfinite(true);
+                continue;
+            }
+
+            if (!LIMITS.contains(name)) {
+                continue;
+            }
+            if (i + 1 == tokens.length) {
+                send("info string missing value for " + name);
+                break;
+            }
+
+            String value = tokens[++i];
+            try {
+                switch (name) {
+                    case "depth" -> limits.setDepth(Integer.parseInt(value));
+                    case "movetime" -> limits.setMoveTime(Long.parseLong(value));
+                    case "wtime" -> limits.setTimeLeft(0, Long.parseLong(value));
+                    case "btime" -> limits.setTimeLeft(1, Long.parseLong(value));
+                    case "winc" -> limits.setIncrement(0, Long.parseLong(value));
+                    case "binc" -> limits.setIncrement(1, Long.parseLong(value));
+                    case "movestogo" -> limits.setMovesToGo(Integer.parseInt(value));
+                }
+            } catch (NumberFormatException e) {
+                send("info string bad value for " + name + ": " + value);
+            }
+
+        }
+
+        return limits;
+
+    }
+
+    // searches on a background thread so stop and isready are answered while it runs
+    private void startSearch(SearchLimits limits) {
+
+        CountDownLatch stopLatch = new CountDownLatch(1);
+        stopReceived = stopLatch;
+
+        searchThread = new Thread(() -> {
+
+            // a move is still owed to the GUI if the search fails, so it gets the null move instead of waiting forever
+            SearchResult result;
+            try {
+                result = engine.search(limits);
+            } catch (RuntimeException e) {
+                send("info string search failed: " + e);
+                result = null;
+            }
+
+            // an infinite search only gives its move once told to stop, even if it finished
+            if (limits.isInfinite()) {
+                try {
+                    stopLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            if (debug) {
+                send(String.format("info string first move cutoffs %.1f%%", engine.getFirstMoveCutoffRate() * 100));
+            }
+            sendBestMove(result);
+
+        }, "uci-search");
+
+        searchThread.start();
+
+    }
+
+    // stops the current search and waits for it to give its best move
+    private void stopSearch() {
+
+        if (searchThread == null) {
+            return;
+        }
+
+        stopReceived.countDown();
+
+        // the search clears the stop flag when it starts, so a stop sent right after go is repeated until it lands
+        try {
+            while (searchThread.isAlive()) {
+                engine.stop();
+                searchThread.join(10);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        searchThread = null;
+
+    }
+
+    private void sendBestMove(SearchResult result) {
+
+        if (result == null || result.getBestMove() == 0) {
+            send("bestmove 0000");
+            return;
+        }
+
+        int [] principalVariation = result.getPrincipalVariation();
+        String ponder = principalVariation.length > 1 ? " ponder " + Move.toString(principalVariation[1]) : "";
+        send("bestmove " + Move.toString(result.getBestMove()) + ponder);
+
+    }
+
+    // the token after the key, with anything up to the next key joined by spaces, since option names can have spaces
+    private static String valueAfter(String [] tokens, String key) {
+
+        for (int i = 0; i < tokens.length - 1; i++) {
+
+            if (tokens[i].equals(key)) {
+
+                StringBuilder sb = new StringBuilder(tokens[i + 1]);
+                for (int j = i + 2; j < tokens.length && !tokens[j].equals("name") && !tokens[j].equals("value"); j++) {
+                    sb.append(" ").append(tokens[j]);
+                }
+                return sb.toString();
+
+            }
+
+        }
+
+        return null;
+
+    }
+
+    // the search thread and the command thread both write, so whole lines are written at once
+    private synchronized void send(String message) {
+
+        System.out.println(message);
+        System.out.flush();
+
+    }
+
+}
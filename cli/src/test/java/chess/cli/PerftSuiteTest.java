@@ -0,0 +1,35 @@
+package chess.cli;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PerftSuiteTest {
+
+    // every case of the bundled tests.txt, with legal and with pseudo legal generation
+    static Stream<Arguments> defaultSuite() throws IOException {
+
+        PerftSuite suite = new PerftSuite();
+        suite.loadDefault();
+
+        return suite.getCases().stream().flatMap(perftCase -> Stream.of(
+                Arguments.of(perftCase, false),
+                Arguments.of(perftCase, true)));
+
+    }
+
+    @ParameterizedTest(name = "{0}, pseudo legal {1}")
+    @MethodSource("defaultSuite")
+    void countsMatchSuite(PerftCase perftCase, boolean pseudoLegal) {
+
+        perftCase.run(pseudoLegal);
+        assertEquals(perftCase.getExpectedNodes(), perftCase.getActualNodes(), perftCase.getFen());
+
+    }
+
+}
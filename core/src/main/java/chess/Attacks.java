@@ -0,0 +1,270 @@
+package chess;
+
+public class Attacks {
+
+    // precomputed attack tables, squares are indexed row * 8 + col with row 0 being the 8th rank
+    private static final long [] KNIGHT_ATTACKS = new long[64];
+    private static final long [] KING_ATTACKS = new long[64];
+    // Index 0 for white pawns, index 1 for black pawns
+    private static final long [][] PAWN_ATTACKS = new long[2][64];
+
+    // squares strictly between two squares on the same line, 0 if not on a line
+    private static final long [][] BETWEEN = new long[64][64];
+    // the full line through two squares, edge to edge, 0 if not on a line
+    private static final long [][] LINE = new long[64][64];
+
+    // relevant occupancy masks, magic numbers, shifts and table offsets for the sliding pieces
+    private static final long [] ROOK_MASKS = new long[64];
+    // magic numbers map every relevant occupancy of a square to its own table index (or one with the same attacks).
+    // Found once by trying sparse random numbers until there were no bad collisions
+    private static final long [] ROOK_MAGICS = {
+            0x4A80011040008020L, 0x0840200040001000L, 0x0880200008821000L, 0xE600042200884090L,
+            0x0E00020010040920L, 0x2100080100440042L, 0x0280010002000080L, 0x0100042882004D00L,
+            0x0000800080400020L, 0x0011802012400080L, 0x0001001020050840L, 0x0208801000800800L,
+            0x0002001020060008L, 0x0926000200081044L, 0x8002000829049A00L, 0x0010800100004080L,
+            0x4020208010804000L, 0x200040401000200AL, 0x0000808020001000L, 0x0040808010000800L,
+            0x011A020020040810L, 0x0441010004000802L, 0x0500040008018230L, 0x0240020001008044L,
+            0x2080400080008028L, 0x4000200080400082L, 0x0853041300200242L, 0x0010010100200810L,
+            0x0108080080800400L, 0x8008040080020080L, 0x1000010400100802L, 0x0028048A00130044L,
+            0x30C0400080800020L, 0x0421004001002080L, 0x0222002012004084L, 0x0000280282801002L,
+            0x0080800400800800L, 0x4090800400800200L, 0x0400902104000208L, 0x0041000043000286L,
+            0x8008803040008000L, 0x0800200050014000L, 0xC614220280120040L, 0x0020090010010020L,
+            0x2000040008008080L, 0x2041001400030008L, 0x4421010002008080L, 0x42621B8510420014L,
+            0x208000C000A00240L, 0x4300400020100040L, 0x0000100080200080L, 0x0100082010010100L,
+            0x2003001004080100L, 0x8002020080040080L, 0x0400881001424400L, 0x4000800051002080L,
+            0x424410E181084202L, 0x0100400100802011L, 0x0000400900102001L, 0x0080100021000409L,
+            0x0082002008041002L, 0x2085001400480229L, 0x0088080210010084L, 0x0000002044090882L
+    };
+    private static final int [] ROOK_SHIFTS = new int[64];
+    private static final int [] ROOK_OFFSETS = new int[64];
+    private static final long [] ROOK_TABLE;
+
+    private static final long [] BISHOP_MASKS = new long[64];
+    private static final long [] BISHOP_MAGICS = {
+            0x2008012800841080L, 0x2B04042404002000L, 0x00100B2941014044L, 0x801A2082080A0020L,
+            0x0001104002314012L, 0x0422283440420687L, 0x2000440420080000L, 0x0220402801082011L,
+            0x100210021024008AL, 0x4000210107060482L, 0x0804080084208500L, 0x12B0282044404000L,
+            0x0800440420200600L, 0x2002411028240042L, 0x2004020110067200L, 0x01011B008A012008L,
+            0x8810400465880800L, 0x0120008234950202L, 0x2070084804202020L, 0xC80810008201C000L,
+            0x8421000820080010L, 0x0402000198010800L, 0x8802000088010920L, 0x2002400022221040L,
+            0x0020042423080224L, 0x0001202010022200L, 0x0020490110010204L, 0x8030040000440008L,
+            0x8900848004002000L, 0x808041000A012102L, 0x0001004522080480L, 0x0092004800804802L,
+            0x0002429000202000L, 0x01050C0284701000L, 0x0104040200240030L, 0x0102110800040040L,
+            0x2181080200202200L, 0x0001020080880808L, 0x2801240080090800L, 0x0288012302202080L,
+            0x0940901010200840L, 0xC460680208001010L, 0x0200120101001000L, 0x0522022018004100L,
+            0x4420680104024041L, 0x1004008082000100L, 0xC20408320C009048L, 0x445020820C480080L,
+            0xC202088268400000L, 0x00004108C8200800L, 0x4000A10080900000L, 0x8000040020880001L,
+            0x10130A0510440000L, 0x0030840830144001L, 0x0020084200C40810L, 0x0520310363030084L,
+            0x0011004200A00882L, 0x000904212C100420L, 0x00400001A08C5011L, 0x0080400200840440L,
+            0x20843C8072020210L, 0x030600204401020CL, 0x00024510021A3400L, 0x8002020808050C40L
+    };
+    private static final int [] BISHOP_SHIFTS = new int[64];
+    private static final int [] BISHOP_OFFSETS = new int[64];
+    private static final long [] BISHOP_TABLE;
+
+    // direction changes for each piece: {row change, col change}
+    private static final int [][] ROOK_DIRECTIONS = {{-1, 0}, {0, 1}, {1, 0}, {0, -1}};
+    private static final int [][] BISHOP_DIRECTIONS = {{-1, 1}, {1, 1}, {1, -1}, {-1, -1}};
+    private static final int [][] KNIGHT_DIRECTIONS = {{-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}, {1, -2}, {2, -1}, {2, 1}, {1, 2}};
+    private static final int [][] KING_DIRECTIONS = {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+
+    // how long building every table took when the class was loaded
+    private static final long INIT_NANOS;
+
+    static {
+
+        long startTime = System.nanoTime();
+
+        initLeaperAttacks();
+        initLines();
+        ROOK_TABLE = initMagics(ROOK_DIRECTIONS, ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_OFFSETS);
+        BISHOP_TABLE = initMagics(BISHOP_DIRECTIONS, BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_OFFSETS);
+
+        INIT_NANOS = System.nanoTime() - startTime;
+
+    }
+
+    private Attacks() {
+    }
+
+    public static long rookAttacks(int square, long occupied) {
+        return ROOK_TABLE[ROOK_OFFSETS[square] + (int) (((occupied & ROOK_MASKS[square]) * ROOK_MAGICS[square]) >>> ROOK_SHIFTS[square])];
+    }
+
+    public static long bishopAttacks(int square, long occupied) {
+        return BISHOP_TABLE[BISHOP_OFFSETS[square] + (int) (((occupied & BISHOP_MASKS[square]) * BISHOP_MAGICS[square]) >>> BISHOP_SHIFTS[square])];
+    }
+
+    public static long queenAttacks(int square, long occupied) {
+        return rookAttacks(square, occupied) | bishopAttacks(square, occupied);
+    }
+
+    public static long knightAttacks(int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    public static long kingAttacks(int square) {
+        return KING_ATTACKS[square];
+    }
+
+    // squares attacked by a pawn of the given color index
+    public static long pawnAttacks(int colorIndex, int square) {
+        return PAWN_ATTACKS[colorIndex][square];
+    }
+
+    public static long between(int square1, int square2) {
+        return BETWEEN[square1][square2];
+    }
+
+    public static long line(int square1, int square2) {
+        return LINE[square1][square2];
+    }
+
+    public static long getInitNanos() {
+        return INIT_NANOS;
+    }
+
+    private static boolean isInBounds(int row, int col) {
+        return row >= 0 && row <= 7 && col >= 0 && col <= 7;
+    }
+
+    private static void initLeaperAttacks() {
+
+        for (int square = 0; square < 64; square++) {
+
+            int row = square >> 3;
+            int col = square & 7;
+
+            for (int [] direction : KNIGHT_DIRECTIONS) {
+                if (isInBounds(row + direction[0], col + direction[1])) {
+                    KNIGHT_ATTACKS[square] |= 1L << Board.toSquare(row + direction[0], col + direction[1]);
+                }
+            }
+
+            for (int [] direction : KING_DIRECTIONS) {
+                if (isInBounds(row + direction[0], col + direction[1])) {
+                    KING_ATTACKS[square] |= 1L << Board.toSquare(row + direction[0], col + direction[1]);
+                }
+            }
+
+            // white pawns move up the board (towards row 0), black pawns move down
+            for (int colDiff = -1; colDiff <= 1; colDiff += 2) {
+                if (isInBounds(row - 1, col + colDiff)) {
+                    PAWN_ATTACKS[0][square] |= 1L << Board.toSquare(row - 1, col + colDiff);
+                }
+                if (isInBounds(row + 1, col + colDiff)) {
+                    PAWN_ATTACKS[1][square] |= 1L << Board.toSquare(row + 1, col + colDiff);
+                }
+            }
+
+        }
+
+    }
+
+    private static void initLines() {
+
+        for (int square = 0; square < 64; square++) {
+            for (int [][] directions : new int[][][] {ROOK_DIRECTIONS, BISHOP_DIRECTIONS}) {
+                for (int [] direction : directions) {
+
+                    // full line through the square in this direction and the opposite one
+                    long line = 1L << square | slidingAttacks(square, 0L, new int[][] {direction, {-direction[0], -direction[1]}});
+
+                    long between = 0L;
+                    int row = (square >> 3) + direction[0];
+                    int col = (square & 7) + direction[1];
+
+                    while (isInBounds(row, col)) {
+                        int target = Board.toSquare(row, col);
+                        BETWEEN[square][target] = between;
+                        LINE[square][target] = line;
+                        between |= 1L << target;
+                        row += direction[0];
+                        col += direction[1];
+                    }
+
+                }
+            }
+        }
+
+    }
+
+    // attacks found by walking each ray until it hits a piece, only used to build the tables
+    private static long slidingAttacks(int square, long occupied, int [][] directions) {
+
+        long attacks = 0L;
+
+        for (int [] direction : directions) {
+
+            int row = (square >> 3) + direction[0];
+            int col = (square & 7) + direction[1];
+
+            while (isInBounds(row, col)) {
+                long bit = 1L << Board.toSquare(row, col);
+                attacks |= bit;
+                if ((occupied & bit) != 0) {
+                    break;
+                }
+                row += direction[0];
+                col += direction[1];
+            }
+
+        }
+
+        return attacks;
+
+    }
+
+    // squares whose occupancy changes the attacks from a square, which is the ray without the edge square
+    private static long relevantMask(int square, int [][] directions) {
+
+        long mask = 0L;
+
+        for (int [] direction : directions) {
+
+            int row = (square >> 3) + direction[0];
+            int col = (square & 7) + direction[1];
+
+            while (isInBounds(row + direction[0], col + direction[1])) {
+                mask |= 1L << Board.toSquare(row, col);
+                row += direction[0];
+                col += direction[1];
+            }
+
+        }
+
+        return mask;
+
+    }
+
+    // fills in the attack table for every square and every occupancy of its relevant squares
+    private static long [] initMagics(int [][] directions, long [] masks, long [] magics, int [] shifts, int [] offsets) {
+
+        int tableSize = 0;
+        for (int square = 0; square < 64; square++) {
+            masks[square] = relevantMask(square, directions);
+            shifts[square] = 64 - Long.bitCount(masks[square]);
+            offsets[square] = tableSize;
+            tableSize += 1 << Long.bitCount(masks[square]);
+        }
+
+        long [] table = new long[tableSize];
+
+        for (int square = 0; square < 64; square++) {
+
+            long mask = masks[square];
+
+            // enumerates every subset of the mask
+            long subset = 0L;
+            do {
+                table[offsets[square] + (int) ((subset * magics[square]) >>> shifts[square])] = slidingAttacks(square, subset, directions);
+                subset = (subset - mask) & mask;
+            } while (subset != 0);
+
+        }
+
+        return table;
+
+    }
+
+}
@@ -0,0 +1,892 @@
+package chess;
+
+import java.util.*;
+
+public class Board implements Piece {
+
+    // pieces on each square, indexed by square (row * 8 + col). Kept alongside the bitboards for quick piece lookups
+    private final int [] squares;
+    // bitboard for each piece, bit n set if the piece is on square n. First index: white or black. Second index: Piece index
+    private final long [][] pieceBitboards;
+    // bitboard of all pieces of a color, Index 0 for white, index 1 for black
+    private final long [] colorBitboards;
+    // bitboard of all pieces on the board
+    private long occupied;
+    // 1 if white's turn, -1 if black's turn
+    private int turn;
+    // if castling is available. Index 0 for white, index 1 for black : Index 0 for King side, index 1 for queen side
+    private boolean [][] castlingRights;
+    // total value of pieces, Index 0 for white, index 1 for black
+    private int [] value;
+    // material plus piece square score with the middlegame and endgame tables, positive if better for white, updated
+    // as pieces move (see Evaluator)
+    private int pieceSquareScore;
+    private int endPieceSquareScore;
+    // counts how many moves without pawn move or capture
+    private int fiftyMoveCount;
+    // column of the pawn that just moved 2 squares, -1 if the last move wasn't a double pawn push or no enemy pawn stands
+    // next to it to take it en passant. Leaving it unset then means a position hashes the same however it was reached
+    private int enPassantCol;
+    // undo records for each move played, reused between moves so making a move doesn't allocate
+    private UndoRecord [] history;
+    // number of moves played, which is also the number of undo records in use
+    private int ply;
+    // zobrist key of the position, updated as pieces move
+    private long key;
+    // zobrist key of just the pawns, for the pawn structure hash table
+    private long pawnKey;
+    // zobrist key of the position before each move played, for finding repetitions
+    private long [] keyHistory;
+
+    // black ansi code
+    private static final String BLACK_COL = "\u001B[90m";
+    // white ansi code
+    private static final String WHITE_COL = "\u001B[97m";
+    // ansi reset color code
+    private static final String RESET_COL = "\u001B[0m";
+
+
+    public Board() {
+
+        squares = new int [64];
+        pieceBitboards = new long [2][6];
+        colorBitboards = new long [2];
+        occupied = 0L;
+
+        value = new int [2];
+
+        setStartingBoard();
+
+        turn = 1;
+
+        castlingRights = new boolean[2][2];
+        castlingRights[0][0] = castlingRights[0][1] = castlingRights[1][0] = castlingRights[1][1] = true;
+
+        fiftyMoveCount = 0;
+
+        enPassantCol = -1;
+
+        history = new UndoRecord[0];
+        ply = 0;
+
+        keyHistory = new long[0];
+        calculateKey();
+
+    }
+
+    public Board(Board other) {
+
+        this.squares = other.squares.clone();
+
+        this.pieceBitboards = new long[2][];
+        for (int i = 0; i < 2; i++) {
+            this.pieceBitboards[i] = other.pieceBitboards[i].clone();
+        }
+
+        this.colorBitboards = other.colorBitboards.clone();
+        this.occupied = other.occupied;
+
+        this.turn = other.turn;
+
+        this.castlingRights = new boolean[2][2];
+        for (int i = 0; i < 2; i++) {
+            this.castlingRights[i] = other.castlingRights[i].clone();
+        }
+
+        this.value = other.value.clone();
+        this.pieceSquareScore = other.pieceSquareScore;
+        this.endPieceSquareScore = other.endPieceSquareScore;
+
+        this.fiftyMoveCount = other.fiftyMoveCount;
+
+        this.enPassantCol = other.enPassantCol;
+
+        this.history = new UndoRecord[other.history.length];
+        for (int i = 0; i < history.length; i++) {
+            this.history[i] = new UndoRecord();
+            if (i < other.ply) {
+                this.history[i].set(other.history[i]);
+            }
+        }
+        this.ply = other.ply;
+
+        this.key = other.key;
+        this.pawnKey = other.pawnKey;
+        this.keyHistory = other.keyHistory.clone();
+
+    }
+
+    public void printBoard() {
+        System.out.println("-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-");
+
+        int [][] board = getBoard();
+
+        for (int i = 0; i < board.length; i++) {
+
+            System.out.print(7 - i + 1 + " ");
+
+            for (int j = 0; j < board[0].length; j++) {
+
+                String squareColor;
+                String piece;
+                String pieceColor;
+
+                // determines color of the square
+                if ((i + j) % 2 == 0) {squareColor = WHITE_COL;}
+                else {squareColor = BLACK_COL;}
+
+                // determines what type of piece
+                piece = String.valueOf(numToLetter(board[i][j]));
+
+                // determines the color of the piece
+                if (isPieceWhite(i, j)) {pieceColor = WHITE_COL;}
+                else {pieceColor = BLACK_COL;}
+
+                System.out.print(squareColor + "[" + pieceColor + piece + squareColor + "]" + RESET_COL);
+            }
+
+            System.out.println();
+        }
+
+        System.out.println("   a  b  c  d  e  f  g  h ");
+        System.out.println("-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-");
+    }
+
+    // sets up pieces on the board
+    public void setStartingBoard() {
+
+        // first index for white, second index for black
+        int [] multiplier = {1, -1};
+        int [] pawnStartRow = {6, 1};
+        int [] pieceStartRow = {7, 0};
+
+        // first iteration sets white pieces, second iteration sets black pieces
+        for (int i = 0; i < 2; i++) {
+
+            for (int j = 0; j < 8; j++) {
+                setPiece(pawnStartRow[i], j, pawnNum * multiplier[i]);
+            }
+
+            setPiece(pieceStartRow[i], 2, bishopNum * multiplier[i]);
+            setPiece(pieceStartRow[i], 5, bishopNum * multiplier[i]);
+            setPiece(pieceStartRow[i], 1, knightNum * multiplier[i]);
+            setPiece(pieceStartRow[i], 6, knightNum * multiplier[i]);
+            setPiece(pieceStartRow[i], 0, rookNum * multiplier[i]);
+            setPiece(pieceStartRow[i], 7, rookNum * multiplier[i]);
+            setPiece(pieceStartRow[i], 3, queenNum * multiplier[i]);
+            setPiece(pieceStartRow[i], 4, kingNum * multiplier[i]);
+
+        }
+
+    }
+
+    // removes every piece from the board
+    public void clear() {
+
+        Arrays.fill(squares, noneNum);
+        for (int i = 0; i < 2; i++) {
+            Arrays.fill(pieceBitboards[i], 0L);
+        }
+        colorBitboards[0] = colorBitboards[1] = 0L;
+        occupied = 0L;
+        value[0] = value[1] = 0;
+        pieceSquareScore = endPieceSquareScore = 0;
+        key = pawnKey = 0L;
+
+    }
+
+    // puts a piece on an empty square, updating the bitboards and value array
+    private void putPiece(int square, int pieceNum) {
+
+        int colorIndex = pieceNum > 0 ? 0 : 1;
+        long bit = 1L << square;
+
+        squares[square] = pieceNum;
+        pieceBitboards[colorIndex][Math.abs(pieceNum) - 1] |= bit;
+        colorBitboards[colorIndex] |= bit;
+        occupied |= bit;
+        value[colorIndex] += pieceNumToValue(pieceNum);
+        pieceSquareScore += Evaluator.pieceSquareValue(pieceNum, square);
+        endPieceSquareScore += Evaluator.endPieceSquareValue(pieceNum, square);
+        key ^= Zobrist.pieceKey(pieceNum, square);
+        if (Math.abs(pieceNum) == pawnNum) {
+            pawnKey ^= Zobrist.pieceKey(pieceNum, square);
+        }
+
+    }
+
+    // removes the piece on a square, updating the bitboards and value array. Returns the removed piece
+    private int removePiece(int square) {
+
+        int pieceNum = squares[square];
+        int colorIndex = pieceNum > 0 ? 0 : 1;
+        long bit = 1L << square;
+
+        squares[square] = noneNum;
+        pieceBitboards[colorIndex][Math.abs(pieceNum) - 1] &= ~bit;
+        colorBitboards[colorIndex] &= ~bit;
+        occupied &= ~bit;
+        value[colorIndex] -= pieceNumToValue(pieceNum);
+        pieceSquareScore -= Evaluator.pieceSquareValue(pieceNum, square);
+        endPieceSquareScore -= Evaluator.endPieceSquareValue(pieceNum, square);
+        key ^= Zobrist.pieceKey(pieceNum, square);
+        if (Math.abs(pieceNum) == pawnNum) {
+            pawnKey ^= Zobrist.pieceKey(pieceNum, square);
+        }
+
+        return pieceNum;
+
+    }
+
+    // moves a piece to an empty square
+    private void movePiece(int startSquare, int targetSquare) {
+
+        putPiece(targetSquare, removePiece(startSquare));
+
+    }
+
+    // plays a move and records what is needed to take it back with unmakeMove
+    public void makeMove(int move) {
+
+        int startSquare = Move.getStart(move);
+        int targetSquare = Move.getTarget(move);
+        MoveType type = Move.getType(move);
+        int capturedPiece = type == MoveType.EN_PASSANT ? squares[toSquare(startSquare >> 3, targetSquare & 7)] : squares[targetSquare];
+        boolean isDoublePawnPush = Math.abs(squares[startSquare]) == pawnNum && Math.abs(startSquare - targetSquare) == 16;
+        int castlingBits = getCastlingBits();
+
+        nextUndoRecord().set(move, capturedPiece, castlingBits, fiftyMoveCount, enPassantCol);
+        keyHistory[ply - 1] = key;
+
+        switch (type) {
+            case NORMAL -> // normal moves
+                normalMove(move);
+            case CASTLE_KING, CASTLE_QUEEN -> // castling
+                castle(move);
+            case EN_PASSANT -> // en passant
+                enPassant(move);
+            case PROMOTE_BISHOP, PROMOTE_KNIGHT, PROMOTE_ROOK, PROMOTE_QUEEN -> // pawn promotion
+                promote(move);
+        }
+
+        // pieces were already updated in the key, the rest is updated here
+        key ^= Zobrist.castlingKey(castlingBits) ^ Zobrist.castlingKey(getCastlingBits());
+        key ^= Zobrist.enPassantKey(enPassantCol);
+        enPassantCol = isDoublePawnPush && hasEnPassantCapturer(targetSquare, turnToOppColorIndex()) ? targetSquare & 7 : -1;
+        key ^= Zobrist.enPassantKey(enPassantCol);
+        key ^= Zobrist.sideKey();
+
+        incrementTurn();
+
+    }
+
+    public void makeMove(Move move) {
+        makeMove(move.toInt());
+    }
+
+    // takes back the last move played, restoring the position in place
+    public void unmakeMove() {
+
+        UndoRecord undo = history[--ply];
+        int move = undo.getMove();
+        incrementTurn();
+
+        switch (Move.getType(move)) {
+            case NORMAL -> // normal moves
+                unNormalMove(move, undo.getCapturedPiece());
+            case CASTLE_KING, CASTLE_QUEEN -> // castling
+                unCastle(move);
+            case EN_PASSANT -> // en passant
+                unEnPassant(move);
+            case PROMOTE_BISHOP, PROMOTE_KNIGHT, PROMOTE_ROOK, PROMOTE_QUEEN -> // pawn promotion
+                unPromote(move, undo.getCapturedPiece());
+        }
+
+        setCastlingBits(undo.getCastlingBits());
+        fiftyMoveCount = undo.getFiftyMoveCount();
+        enPassantCol = undo.getEnPassantCol();
+        key = keyHistory[ply];
+
+    }
+
+    // calculates the zobrist key from scratch, for when the position was set up without moves
+    public void calculateKey() {
+
+        key = pawnKey = 0L;
+        for (int square = 0; square < 64; square++) {
+            if (squares[square] != noneNum) {
+                key ^= Zobrist.pieceKey(squares[square], square);
+            }
+            if (Math.abs(squares[square]) == pawnNum) {
+                pawnKey ^= Zobrist.pieceKey(squares[square], square);
+            }
+        }
+
+        key ^= Zobrist.castlingKey(getCastlingBits());
+        key ^= Zobrist.enPassantKey(enPassantCol);
+        if (turn == -1) {
+            key ^= Zobrist.sideKey();
+        }
+
+    }
+
+    // returns how many times the current position came up before. Only looks back to the last pawn move or capture,
+    // since no position before that can come up again
+    public int countRepetitions() {
+
+        int count = 0;
+        int lastIrreversible = Math.max(0, ply - fiftyMoveCount);
+
+        // only positions with the same side to move can repeat
+        for (int i = ply - 2; i >= lastIrreversible; i -= 2) {
+            if (keyHistory[i] == key) {
+                count++;
+            }
+        }
+
+        return count;
+
+    }
+
+    // returns the next free undo record, growing the history if needed
+    private UndoRecord nextUndoRecord() {
+
+        if (ply == history.length) {
+            history = Arrays.copyOf(history, Math.max(64, history.length * 2));
+            keyHistory = Arrays.copyOf(keyHistory, history.length);
+            for (int i = ply; i < history.length; i++) {
+                history[i] = new UndoRecord();
+            }
+        }
+
+        return history[ply++];
+
+    }
+
+    // performs all castling functionality
+    public void castle(int move) {
+
+        int row = calcStartKingRow();
+        int colorIndex = turnToColorIndex();
+        boolean isKingSide = Move.getType(move) == MoveType.CASTLE_KING;
+        int rookCol = isKingSide ? 7 : 0;
+        int rookEndCol = isKingSide ? 5 : 3;
+
+        movePiece(Move.getStart(move), Move.getTarget(move)); // moves king
+        movePiece(toSquare(row, rookCol), toSquare(row, rookEndCol)); // moves rook
+
+        // update 50 move count
+        fiftyMoveCount++;
+        // update castling rights
+        castlingRights[colorIndex][0] = false;
+        castlingRights[colorIndex][1] = false;
+
+    }
+
+    // performs all En Passant functionality
+    public void enPassant(int move) {
+
+        int startSquare = Move.getStart(move);
+        int targetSquare = Move.getTarget(move);
+
+        // pawn move and capture resets 50 move count
+        fiftyMoveCount = 0;
+
+        // removes the pawn that was passed and moves the pawn that did en passant
+        removePiece(toSquare(startSquare >> 3, targetSquare & 7));
+        movePiece(startSquare, targetSquare);
+
+    }
+
+    // performs all promotion functionality
+    public void promote(int move) {
+
+        int promotionPiece = Move.getTypeValue(move) * turn;
+        int startSquare = Move.getStart(move);
+        int targetSquare = Move.getTarget(move);
+        int targetCol = targetSquare & 7;
+        int endSquare = squares[targetSquare];
+        int oppIndex = turnToOppColorIndex();
+
+        // pawn move resets 50 move count
+        fiftyMoveCount = 0;
+
+        // updates castling rights if opponents rook is taken
+        if (Math.abs(endSquare) == rookNum) {
+
+            if (targetCol == 0) {castlingRights[oppIndex][1] = false;}
+            else if (targetCol == 7) {castlingRights[oppIndex][0] = false;}
+
+        }
+
+        // removes captured piece and the pawn, then adds the promoted piece
+        if (endSquare != noneNum) {
+            removePiece(targetSquare);
+        }
+        removePiece(startSquare);
+        putPiece(targetSquare, promotionPiece);
+
+    }
+
+    // performs all non En Passant and Castling functionality
+    public void normalMove(int move) {
+
+        int start = Move.getStart(move);
+        int target = Move.getTarget(move);
+        int startCol = start & 7;
+        int targetRow = target >> 3;
+        int targetCol = target & 7;
+        int startSquare = squares[start];
+        int endSquare = squares[target];
+        int colorIndex = turnToColorIndex();
+        int oppIndex = turnToOppColorIndex();
+
+        // checks if count should be incremented bc no capture or pawn move (counting for 50 move draw rule)
+        if (endSquare == noneNum && Math.abs(startSquare) != pawnNum) {
+            fiftyMoveCount++;
+        } else {
+            fiftyMoveCount = 0;
+        }
+
+        // checks if castling rights have changed and changes the tracker of which square the king is on
+        if (Math.abs(startSquare) == kingNum) {
+
+            castlingRights[colorIndex][0] = false;
+            castlingRights[colorIndex][1] = false;
+
+        } else if (Math.abs(startSquare) == rookNum) {
+
+            if (startCol == 0) {castlingRights[colorIndex][1] = false;}
+            else if (startCol == 7) {castlingRights[colorIndex][0] = false;}
+
+        }
+
+        // updates castling rights if opponents rook is taken
+        if (Math.abs(endSquare) == rookNum && targetRow == calcPromoteRow()) {
+
+            if (targetCol == 0) {castlingRights[oppIndex][1] = false;}
+            else if (targetCol == 7) {castlingRights[oppIndex][0] = false;}
+
+        }
+
+        // removes captured piece and moves your piece
+        if (endSquare != noneNum) {
+            removePiece(target);
+        }
+        movePiece(start, target);
+
+    }
+
+    // takes back a normal move, putting back the captured piece if there was one
+    public void unNormalMove(int move, int capturedPiece) {
+
+        int targetSquare = Move.getTarget(move);
+
+        movePiece(targetSquare, Move.getStart(move));
+        if (capturedPiece != noneNum) {
+            putPiece(targetSquare, capturedPiece);
+        }
+
+    }
+
+    // takes back castling on either side
+    public void unCastle(int move) {
+
+        int row = calcStartKingRow();
+        boolean isKingSide = Move.getType(move) == MoveType.CASTLE_KING;
+        int rookCol = isKingSide ? 7 : 0;
+        int rookEndCol = isKingSide ? 5 : 3;
+
+        movePiece(Move.getTarget(move), Move.getStart(move)); // moves king back
+        movePiece(toSquare(row, rookEndCol), toSquare(row, rookCol)); // moves rook back
+
+    }
+
+    // takes back en passant, putting the captured pawn back next to the moved pawn
+    public void unEnPassant(int move) {
+
+        int startSquare = Move.getStart(move);
+        int targetSquare = Move.getTarget(move);
+
+        movePiece(targetSquare, startSquare);
+        putPiece(toSquare(startSquare >> 3, targetSquare & 7), pawnNum * -turn);
+
+    }
+
+    // takes back a promotion, turning the piece back into a pawn
+    public void unPromote(int move, int capturedPiece) {
+
+        int targetSquare = Move.getTarget(move);
+
+        removePiece(targetSquare);
+        putPiece(Move.getStart(move), pawnNum * turn);
+        if (capturedPiece != noneNum) {
+            putPiece(targetSquare, capturedPiece);
+        }
+
+    }
+
+    // checks if a square is in bounds of the board 2d array
+    public boolean isInBounds(int targetRow, int targetCol) {
+
+        return targetRow >= 0 && targetRow <= 7 && targetCol >= 0 && targetCol <= 7;
+
+    }
+
+    // checks if piece is white
+    public boolean isPieceWhite(int row, int col) {
+
+        return squares[toSquare(row, col)] > 0;
+
+    }
+
+    // checks if piece is black
+    public boolean isPieceBlack(int row, int col) {
+
+        return squares[toSquare(row, col)] < 0;
+
+    }
+
+    // checks if the piece on a square is the right color for whose turn it is
+    public boolean isPieceTurn(int row, int col) {
+
+        return turn * squares[toSquare(row, col)] > 0;
+
+    }
+
+    // checks if the piece is the wrong color for whose turn it is
+    public boolean isNotPieceTurn(int row, int col) {
+
+        return !isPieceTurn(row, col) && squares[toSquare(row, col)] != 0;
+
+    }
+
+    // returns true if there are no pawns left on the board
+    public boolean noPawnsLeft() {
+
+        return (pieceBitboards[0][pawnIndex] | pieceBitboards[1][pawnIndex]) == 0L;
+
+    }
+
+    // returns square index of a row and column
+    public static int toSquare(int row, int col) {
+
+        return row * 8 + col;
+
+    }
+
+
+    // returns the row that the pawn starts on depending on whose turn it is
+    public int calcStartPawnRow() {
+
+        if (turn == 1) {
+            return 6;
+        }
+        return 1;
+
+    }
+
+    // returns the row that the pawn starts on depending on whose turn it is
+    public int calcOppStartPawnRow() {
+
+        if (turn == 1) {
+            return 1;
+        }
+        return 6;
+
+    }
+
+    // returns the row that the pawn promotes on depending on whose turn it is
+    public int calcPromoteRow() {
+
+        if (turn == 1) {
+            return 0;
+        }
+        return 7;
+
+    }
+
+    // returns the row that the king starts on depending on whose turn it is
+    public int calcStartKingRow() {
+
+        if (turn == 1) {
+            return 7;
+        }
+        return 0;
+
+    }
+
+    // true if a pawn of the color stands next to the square on its row, so a pawn that double pushed to the square could
+    // be taken en passant by it
+    public boolean hasEnPassantCapturer(int square, int colorIndex) {
+
+        int col = square & 7;
+        long pawns = pieceBitboards[colorIndex][pawnIndex];
+        return col > 0 && (pawns & 1L << square - 1) != 0 || col < 7 && (pawns & 1L << square + 1) != 0;
+
+    }
+
+    // returns the row that your pawn has to be in for en passant
+    public int calcEPRow() {
+
+        if (turn == 1) {
+            return 3;
+        }
+        return 4;
+
+    }
+
+    // returns index of the castling arrays and value arrays based on whose turn it is
+    public int turnToColorIndex() {
+
+        if (turn == 1) {
+            return 0;
+        }
+        return 1;
+
+    }
+
+    // returns index of opposite color stuff
+    public int turnToOppColorIndex() {
+
+        if (turn == 1) {
+            return 1;
+        }
+        return 0;
+
+    }
+
+    // returns index based on color of piece
+    public int getPieceIndex(int row, int col) {
+
+        if (isPieceWhite(row, col)) {
+            return 0;
+        } else if (isPieceBlack(row, col)) {
+            return 1;
+        }
+        return -1;
+
+    }
+
+    // returns value of piece
+    public int pieceNumToValue(int num) {
+
+        switch (Math.abs(num)) {
+
+            case pawnNum -> {return 1;}
+            case bishopNum, knightNum -> {return 3;}
+            case rookNum -> {return 5;}
+            case queenNum -> {return 9;}
+            default -> {return 0;}
+
+        }
+
+    }
+
+    // returns piece letter from piece number
+    public char numToLetter(int pieceNum) {
+
+        char letter = switch (Math.abs(pieceNum)) {
+            case noneNum -> noneChar;
+            case pawnNum -> pawnChar;
+            case bishopNum -> bishopChar;
+            case knightNum -> knightChar;
+            case rookNum -> rookChar;
+            case queenNum -> queenChar;
+            default -> kingChar;
+        };
+
+        if (pieceNum > 0) {
+            return letter;
+        }
+        return Character.toLowerCase(letter);
+
+    }
+
+    // returns piece number from piece letter
+    public int letterToNum(char pieceLetter) {
+
+        int num = switch (Character.toLowerCase(pieceLetter)) {
+            case 'p' -> pawnNum;
+            case 'b' -> bishopNum;
+            case 'n' -> knightNum;
+            case 'r' -> rookNum;
+            case 'q' -> queenNum;
+            case 'k' -> kingNum;
+            default -> noneNum;
+        };
+
+        if (Character.isUpperCase(pieceLetter)) {
+            return num;
+        }
+        return num * -1;
+
+    }
+
+    // Getter methods:
+    // 2d array view of the board built from the square array, for printing and FEN
+    public int[][] getBoard() {
+
+        int [][] board = new int[8][8];
+        for (int row = 0; row < 8; row++) {
+            System.arraycopy(squares, row * 8, board[row], 0, 8);
+        }
+        return board;
+
+    }
+
+    public int getPiece(int row, int col) {
+        return squares[toSquare(row, col)];
+    }
+
+    public int getPiece(int square) {
+        return squares[square];
+    }
+
+    public long getPieces(int colorIndex, int pieceIndex) {
+        return pieceBitboards[colorIndex][pieceIndex];
+    }
+
+    public long getColorPieces(int colorIndex) {
+        return colorBitboards[colorIndex];
+    }
+
+    public long getOccupied() {
+        return occupied;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    public long getPawnKey() {
+        return pawnKey;
+    }
+
+    // number of moves played on this board
+    public int getPly() {
+        return ply;
+    }
+
+    // last move played as a packed int
+    public int getLastMove() {
+        return history[ply - 1].getMove();
+    }
+
+    public boolean[][] getCastlingRights() {
+        return castlingRights;
+    }
+
+    public int[] getValue() {
+        return value;
+    }
+
+    public int getPieceSquareScore() {
+        return pieceSquareScore;
+    }
+
+    public int getEndPieceSquareScore() {
+        return endPieceSquareScore;
+    }
+
+    // value of both sides' pieces other than pawns, which is Evaluator.MAX_PHASE at the start and goes down as
+    // pieces are traded. Can go over the max after promotions
+    public int getPhase() {
+        return value[0] + value[1] - Long.bitCount(pieceBitboards[0][pawnIndex] | pieceBitboards[1][pawnIndex]);
+    }
+
+    public int getFiftyMoveCount() {
+        return fiftyMoveCount;
+    }
+
+    public int getEnPassantCol() {
+        return enPassantCol;
+    }
+
+    // castling rights packed into bits: 1 white king side, 2 white queen side, 4 black king side, 8 black queen side
+    public int getCastlingBits() {
+
+        int bits = 0;
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 2; j++) {
+                if (castlingRights[i][j]) {
+                    bits |= 1 << (i * 2 + j);
+                }
+            }
+        }
+        return bits;
+
+    }
+
+    // Setter methods:
+    // sets what is on a square, replacing any piece already there
+    public void setPiece(int row, int col, int pieceNum) {
+
+        int square = toSquare(row, col);
+
+        if (squares[square] != noneNum) {
+            removePiece(square);
+        }
+        if (pieceNum != noneNum) {
+            putPiece(square, pieceNum);
+        }
+
+    }
+
+    public void setTurn(int turn) {
+        this.turn = turn;
+    }
+
+    public void incrementTurn() {
+        turn *= -1;
+    }
+
+    public void setCastlingRights(boolean[][] castlingRights) {
+        this.castlingRights = castlingRights;
+    }
+
+    public void setCastlingRight(int colorIndex, int sideIndex, boolean canCastle) {
+        castlingRights[colorIndex][sideIndex] = canCastle;
+    }
+
+    public void setFiftyMoveCount(int fiftyMoveCount) {
+        this.fiftyMoveCount = fiftyMoveCount;
+    }
+
+    public void setEnPassantCol(int enPassantCol) {
+        this.enPassantCol = enPassantCol;
+    }
+
+    public void setCastlingBits(int bits) {
+
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 2; j++) {
+                castlingRights[i][j] = (bits & 1 << (i * 2 + j)) != 0;
+            }
+        }
+
+    }
+
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+
+        printBoard();
+        sb.append("Turn: ").append(turn).append("\n");
+        sb.append("Castling Rights (White King Side): ").append(castlingRights[0][0]).append("\n");
+        sb.append("Castling Rights (White Queen Side): ").append(castlingRights[0][1]).append("\n");
+        sb.append("Castling Rights (Black King Side): ").append(castlingRights[1][0]).append("\n");
+        sb.append("Castling Rights (Black Queen Side): ").append(castlingRights[1][1]).append("\n");
+        sb.append("Value (White): ").append(value[0]).append("\n");
+        sb.append("Value (Black): ").append(value[1]).append("\n");
+        sb.append("Fifty Move Count: ").append(fiftyMoveCount).append("\n");
+
+        return sb.toString();
+    }
+
+}
\ No newline at end of file
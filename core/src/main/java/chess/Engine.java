@@ -0,0 +1,263 @@
+package chess;
+
+import java.util.function.Consumer;
+
+public class Engine {
+
+    // hash size used when none is given
+    public static final int DEFAULT_HASH_MB = 16;
+    // deepest the search can go
+    public static final int MAX_PLY = 128;
+    // score for checkmating on the spot. Mates further away score less, by 1 per ply
+    public static final int MATE_SCORE = 30000;
+    // any score past this is a mate score
+    public static final int MATE_BOUND = MATE_SCORE - MAX_PLY;
+    // most search threads allowed
+    public static final int MAX_THREADS = 256;
+
+    private Game game;
+    // search results of positions already searched, shared between searches and between threads
+    private final TranspositionTable transpositionTable;
+    // size of each worker's pawn hash table. Workers have their own, since pawn structures are cheap to find again
+    private int pawnHashSizeMB;
+    // workers generate pseudo legal moves and check each before playing it, instead of generating legal moves
+    private boolean pseudoLegal;
+    // one worker per search thread. Worker 0 runs on the calling thread, the rest on helper threads
+    private SearchWorker [] workers;
+    // deadlines for the current search
+    private final TimeManager timeManager;
+    // set when the current search has to end right away. Set from another thread by stop(), or when the main worker finishes
+    private volatile boolean stopRequested;
+    // told about every iteration the main worker finishes, with the node count of all threads. Called on the search thread
+    private Consumer<SearchResult> iterationListener;
+
+    public Engine() {
+        this(FEN.startFen, DEFAULT_HASH_MB);
+    }
+
+    public Engine(String fen) {
+        this(fen, DEFAULT_HASH_MB);
+    }
+
+    public Engine(String fen, int hashSizeMB) {
+
+        game = new Game(fen);
+        transpositionTable = new TranspositionTable(hashSizeMB);
+        pawnHashSizeMB = Evaluator.DEFAULT_PAWN_HASH_MB;
+        pseudoLegal = false;
+        timeManager = new TimeManager();
+        stopRequested = false;
+        iterationListener = null;
+        setThreads(1);
+
+    }
+
+    // searches the current position to a fixed depth
+    public SearchResult search(int depth) {
+        return search(SearchLimits.depth(depth));
+    }
+
+    // lazy SMP: every worker runs its own iterative deepening search on its own copy of the position, and they only
+    // talk through the transposition table. The main worker's result is returned once it finishes, which stops the helpers
+    public SearchResult search(SearchLimits limits) {
+
+        Board board = game.getBoard();
+        timeManager.start(limits, board.turnToColorIndex());
+        stopRequested = false;
+
+        for (SearchWorker worker : workers) {
+            worker.setPosition(board);
+        }
+
+        // helpers search with no limits other than the depth, and stop when the main worker does
+        Thread [] helpers = new Thread[workers.length - 1];
+        for (int i = 0; i < helpers.length; i++) {
+            SearchWorker helper = workers[i + 1];
+            helpers[i] = new Thread(() -> helper.iterativeDeepening(limits), "search-" + helper.getId());
+            helpers[i].setDaemon(true);
+            helpers[i].start();
+        }
+
+        SearchResult result = workers[0].iterativeDeepening(limits);
+        stopRequested = true;
+
+        for (Thread helper : helpers) {
+            try {
+                helper.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (result == null) {
+            return null;
+        }
+
+        return withAllNodes(result);
+
+    }
+
+    // called by the main worker after each iteration it finishes
+    void iterationFinished(SearchResult result) {
+
+        if (iterationListener != null) {
+            iterationListener.accept(withAllNodes(result));
+        }
+
+    }
+
+    // the reported node count is for all threads
+    private SearchResult withAllNodes(SearchResult result) {
+        return new SearchResult(result.getBestMove(), result.getScore(), result.getDepth(), getNodes(),
+                result.getTimeMillis(), result.getPrincipalVariation());
+    }
+
+    // stops the current search, which then returns its last finished iteration
+    public void stop() {
+        stopRequested = true;
+    }
+
+    // clears everything learned in the last game: the transposition table and every worker's killers, history and pawn
+    // hash table. Only to be called between searches
+    public void newGame() {
+
+        transpositionTable.clear();
+        for (SearchWorker worker : workers) {
+            worker.newGame();
+        }
+
+    }
+
+    // starts a new game from a FEN string. The transposition table is kept. A bad FEN throws IllegalArgumentException
+    // and leaves the current game in place. Only to be called between searches
+    public void setPosition(String fen) {
+        game = new Game(fen);
+    }
+
+    public void setIterationListener(Consumer<SearchResult> iterationListener) {
+        this.iterationListener = iterationListener;
+    }
+
+    public boolean isStopRequested() {
+        return stopRequested;
+    }
+
+    // sets the number of search threads. Only to be called between searches
+    public void setThreads(int threads) {
+
+        threads = Math.max(1, Math.min(MAX_THREADS, threads));
+
+        workers = new SearchWorker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new SearchWorker(this, i);
+        }
+
+    }
+
+    public int getThreads() {
+        return workers.length;
+    }
+
+    // resizes the transposition table, clearing it. Only to be called between searches
+    public void setHashSize(int sizeMB) {
+        transpositionTable.resize(sizeMB);
+    }
+
+    public int getPawnHashSize() {
+        return pawnHashSizeMB;
+    }
+
+    // resizes every worker's pawn hash table, clearing them. Only to be called between searches
+    public void setPawnHashSize(int sizeMB) {
+
+        pawnHashSizeMB = sizeMB;
+        for (SearchWorker worker : workers) {
+            worker.getEvaluator().getPawnHashTable().resize(sizeMB);
+        }
+
+    }
+
+    public boolean isPseudoLegal() {
+        return pseudoLegal;
+    }
+
+    // switches every worker between pseudo legal and legal move generation. Only to be called between searches
+    public void setPseudoLegal(boolean pseudoLegal) {
+
+        this.pseudoLegal = pseudoLegal;
+        for (SearchWorker worker : workers) {
+            worker.setPseudoLegal(pseudoLegal);
+        }
+
+    }
+
+    // pawn hash hits and misses of all workers, since the tables were last resized or reset
+    public long getPawnHashHits() {
+
+        long hits = 0;
+        for (SearchWorker worker : workers) {
+            hits += worker.getEvaluator().getPawnHashTable().getHits();
+        }
+        return hits;
+
+    }
+
+    public long getPawnHashMisses() {
+
+        long misses = 0;
+        for (SearchWorker worker : workers) {
+            misses += worker.getEvaluator().getPawnHashTable().getMisses();
+        }
+        return misses;
+
+    }
+
+    // share of the nodes that failed high in the current or last search that did so on their first move, over all
+    // workers. How well the moves are ordered: with perfect ordering it is 1
+    public double getFirstMoveCutoffRate() {
+
+        long cutoffs = 0;
+        long firstMoveCutoffs = 0;
+        for (SearchWorker worker : workers) {
+            cutoffs += worker.getMoveOrdering().getBetaCutoffs();
+            firstMoveCutoffs += worker.getMoveOrdering().getFirstMoveCutoffs();
+        }
+        return cutoffs == 0 ? 0 : (double) firstMoveCutoffs / cutoffs;
+
+    }
+
+    // positions visited by all threads in the current or last search
+    public long getNodes() {
+
+        long nodes = 0;
+        for (SearchWorker worker : workers) {
+            nodes += worker.getNodes();
+        }
+        return nodes;
+
+    }
+
+    // positions visited by each thread in the current or last search, main thread first
+    public long [] getThreadNodes() {
+
+        long [] threadNodes = new long[workers.length];
+        for (int i = 0; i < workers.length; i++) {
+            threadNodes[i] = workers[i].getNodes();
+        }
+        return threadNodes;
+
+    }
+
+    public TimeManager getTimeManager() {
+        return timeManager;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    public TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+
+}
@@ -0,0 +1,358 @@
+package chess;
+
+public class Evaluator implements Piece {
+
+    // set to true (-Dchess.evalDebug=true) to check every incremental score against a full recomputation
+    private static final boolean DEFAULT_DEBUG = Boolean.getBoolean("chess.evalDebug");
+
+    // pawn hash size used when none is given
+    public static final int DEFAULT_PAWN_HASH_MB = 1;
+
+    private int score;
+    // pawn structure scores and passed pawns of positions already evaluated, found by the board's pawn key
+    private final PawnHashTable pawnHashTable;
+    // entry of the pawn hash table used by the last call to getScore
+    private int pawnEntry;
+    // pawn structure found by the last call to evaluatePawns
+    private int pawnScore;
+    private int endPawnScore;
+    private final long [] passedPawns;
+    // checks the score Board keeps against materialDiff + pieceActivity on every call, throwing if they differ
+    private boolean debug;
+
+    // piece values in the middlegame and the endgame. Pawns and rooks get stronger as the board empties, knights weaker
+    private static final int [] pieceValues = {100, 330, 320, 500, 900, 20000};
+    private static final int [] endPieceValues = {120, 330, 300, 530, 920, 20000};
+    private static final int [][] pawnTable = {
+            {0,  0,  0,  0,  0,  0,  0,  0},
+            {50, 50, 50, 50, 50, 50, 50, 50},
+            {10, 10, 20, 30, 30, 20, 10, 10},
+            {5,  5, 10, 25, 25, 10,  5,  5},
+            {0,  0,  0, 20, 20,  0,  0,  0},
+            {5, -5,-10,  0,  0,-10, -5,  5},
+            {5, 10, 10,-20,-20, 10, 10,  5},
+            {0,  0,  0,  0,  0,  0,  0,  0}
+    };
+    private static final int [][] bishopTable = {
+            {-20,-10,-10,-10,-10,-10,-10,-20},
+            {-10,  0,  0,  0,  0,  0,  0,-10},
+            {-10,  0,  5, 10, 10,  5,  0,-10},
+            {-10,  5,  5, 10, 10,  5,  5,-10},
+            {-10,  0, 10, 10, 10, 10,  0,-10},
+            {-10, 10, 10, 10, 10, 10, 10,-10},
+            {-10,  5,  0,  0,  0,  0,  5,-10},
+            {-20,-10,-10,-10,-10,-10,-10,-20}
+    };
+    private static final int [][] knightTable = {
+            {-50,-40,-30,-30,-30,-30,-40,-50},
+            {-40,-20,  0,  0,  0,  0,-20,-40},
+            {-30,  0, 10, 15, 15, 10,  0,-30},
+            {-30,  5, 15, 20, 20, 15,  5,-30},
+            {-30,  0, 15, 20, 20, 15,  0,-30},
+            {-30,  5, 10, 15, 15, 10,  5,-30},
+            {-40,-20,  0,  5,  5,  0,-20,-40},
+            {-50,-40,-30,-30,-30,-30,-40,-50}
+    };
+    private static final int [][] rookTable = {
+            {0,  0,  0,  0,  0,  0,  0,  0},
+            {5, 10, 10, 10, 10, 10, 10,  5},
+            {-5,  0,  0,  0,  0,  0,  0, -5},
+            {-5,  0,  0,  0,  0,  0,  0, -5},
+            {-5,  0,  0,  0,  0,  0,  0, -5},
+            {-5,  0,  0,  0,  0,  0,  0, -5},
+            {-5,  0,  0,  0,  0,  0,  0, -5},
+            {0,  0,  0,  5,  5,  0,  0,  0}
+    };
+    private static final int [][] queenTable = {
+            {-20,-10,-10, -5, -5,-10,-10,-20},
+            {-10,  0,  0,  0,  0,  0,  0,-10},
+            {-10,  0,  5,  5,  5,  5,  0,-10},
+            {-5,  0,  5,  5,  5,  5,  0, -5},
+            {0,  0,  5,  5,  5,  5,  0, -5},
+            {-10,  5,  5,  5,  5,  5,  0,-10},
+            {-10,  0,  5,  0,  0,  0,  0,-10},
+            {-20,-10,-10, -5, -5,-10,-10,-20}
+    };
+    private static final int [][] kingTable = {
+            {-30,-40,-40,-50,-50,-40,-40,-30},
+            {-30,-40,-40,-50,-50,-40,-40,-30},
+            {-30,-40,-40,-50,-50,-40,-40,-30},
+            {-30,-40,-40,-50,-50,-40,-40,-30},
+            {-20,-30,-30,-40,-40,-30,-30,-20},
+            {-10,-20,-20,-20,-20,-20,-20,-10},
+            {20, 20,  0,  0,  0,  0, 20, 20},
+            {20, 30, 10,  0,  0, 10, 30, 20}
+    };
+    // in the endgame pawns are worth more the closer they are to promoting
+    private static final int [][] pawnEndTable = {
+            {0,  0,  0,  0,  0,  0,  0,  0},
+            {80, 80, 80, 80, 80, 80, 80, 80},
+            {50, 50, 50, 50, 50, 50, 50, 50},
+            {30, 30, 30, 30, 30, 30, 30, 30},
+            {15, 15, 15, 15, 15, 15, 15, 15},
+            {5,  5,  5,  5,  5,  5,  5,  5},
+            {0,  0,  0,  0,  0,  0,  0,  0},
+            {0,  0,  0,  0,  0,  0,  0,  0}
+    };
+    // in the endgame the king should come to the center instead of hiding behind its pawns
+    private static final int [][] kingEndTable = {
+            {-50,-40,-30,-20,-20,-30,-40,-50},
+            {-30,-20,-10,  0,  0,-10,-20,-30},
+            {-30,-10, 20, 30, 30, 20,-10,-30},
+            {-30,-10, 30, 40, 40, 30,-10,-30},
+            {-30,-10, 30, 40, 40, 30,-10,-30},
+            {-30,-10, 20, 30, 30, 20,-10,-30},
+            {-30,-30,  0,  0,  0,  0,-30,-30},
+            {-50,-30,-30,-30,-30,-30,-30,-50}
+    };
+    private static final int [][][] pieceTables = {pawnTable, bishopTable, knightTable, rookTable, queenTable, kingTable};
+    private static final int [][][] endPieceTables = {pawnEndTable, bishopTable, knightTable, rookTable, queenTable, kingEndTable};
+
+    // pawn structure penalties and bonuses, each {middlegame, endgame}. Doubled is per extra pawn on a file
+    private static final int [] doubledPawn = {-10, -20};
+    private static final int [] isolatedPawn = {-15, -10};
+    private static final int [] backwardPawn = {-8, -6};
+    // passed pawn bonus by how many rows the pawn has moved up the board
+    private static final int [] passedPawn = {0, 5, 10, 15, 25, 40, 60, 0};
+    private static final int [] endPassedPawn = {0, 10, 20, 35, 60, 100, 150, 0};
+
+    // squares on each column, and on the columns either side of it
+    private static final long [] columnMasks = new long[8];
+    private static final long [] adjacentColumnMasks = new long[8];
+    // for a pawn of each color on each square: squares in front of it on its own and adjacent columns, which have to
+    // be free of enemy pawns for it to be passed
+    private static final long [][] passedPawnMasks = new long[2][64];
+    // for a pawn of each color on each square: squares on the adjacent columns level with or behind it, where a
+    // friendly pawn could still protect it. A pawn with none there and its next square covered by an enemy pawn is backward
+    private static final long [][] supportMasks = new long[2][64];
+
+    // phase of the starting position: the value (see Board.pieceNumToValue) of both sides' pieces other than pawns.
+    // The phase goes down to 0 as pieces come off, moving the score from the middlegame tables to the endgame ones
+    public static final int MAX_PHASE = 62;
+
+    // material plus piece square score of each piece on each square in the middlegame and the endgame, positive for
+    // white pieces and negative for black ones, indexed by piece number + 6 so it can be looked up without checking the color
+    private static final int [][] pieceSquareValues = new int[13][64];
+    private static final int [][] endPieceSquareValues = new int[13][64];
+
+    static {
+
+        for (int pieceIndex = 0; pieceIndex < 6; pieceIndex++) {
+            for (int square = 0; square < 64; square++) {
+
+                int row = square >> 3;
+                int col = square & 7;
+
+                pieceSquareValues[6 + pieceIndex + 1][square] = pieceValues[pieceIndex] + pieceTables[pieceIndex][row][col];
+                pieceSquareValues[6 - pieceIndex - 1][square] = -pieceValues[pieceIndex] - pieceTables[pieceIndex][7-row][col];
+                endPieceSquareValues[6 + pieceIndex + 1][square] = endPieceValues[pieceIndex] + endPieceTables[pieceIndex][row][col];
+                endPieceSquareValues[6 - pieceIndex - 1][square] = -endPieceValues[pieceIndex] - endPieceTables[pieceIndex][7-row][col];
+
+            }
+        }
+
+        for (int col = 0; col < 8; col++) {
+            columnMasks[col] = 0x0101010101010101L << col;
+        }
+        for (int col = 0; col < 8; col++) {
+            adjacentColumnMasks[col] = (col > 0 ? columnMasks[col - 1] : 0L) | (col < 7 ? columnMasks[col + 1] : 0L);
+        }
+
+        for (int square = 0; square < 64; square++) {
+
+            int row = square >> 3;
+            int col = square & 7;
+            // white pawns move towards row 0 and black pawns towards row 7
+            long rowsAboveRow = (1L << row * 8) - 1;
+            long rowsBelowRow = row == 7 ? 0L : -1L << (row + 1) * 8;
+
+            passedPawnMasks[0][square] = (columnMasks[col] | adjacentColumnMasks[col]) & rowsAboveRow;
+            passedPawnMasks[1][square] = (columnMasks[col] | adjacentColumnMasks[col]) & rowsBelowRow;
+            supportMasks[0][square] = adjacentColumnMasks[col] & ~rowsAboveRow;
+            supportMasks[1][square] = adjacentColumnMasks[col] & ~rowsBelowRow;
+
+        }
+
+    }
+
+    public Evaluator() {
+        this(DEFAULT_PAWN_HASH_MB);
+    }
+
+    public Evaluator(int pawnHashSizeMB) {
+
+        score = 0;
+        pawnHashTable = new PawnHashTable(pawnHashSizeMB);
+        pawnEntry = -1;
+        passedPawns = new long[2];
+        debug = DEFAULT_DEBUG;
+
+    }
+
+    // the board keeps its middlegame and endgame scores up to date as pieces move, so this just blends the two by how
+    // much material is left. Math.min compiles to a conditional move, so there are no branches
+    public int getScore(Board board) {
+
+        // pawn structure rarely changes between positions in a search, so it is looked up instead of worked out again
+        pawnEntry = pawnHashTable.probe(board.getPawnKey());
+        if (pawnEntry == -1) {
+            evaluatePawns(board);
+            pawnEntry = pawnHashTable.store(board.getPawnKey(), pawnScore, endPawnScore, passedPawns[0], passedPawns[1]);
+        }
+
+        int phase = Math.min(board.getPhase(), MAX_PHASE);
+        score = taper(board.getPieceSquareScore() + pawnHashTable.getScore(pawnEntry),
+                board.getEndPieceSquareScore() + pawnHashTable.getEndScore(pawnEntry), phase);
+
+        if (debug) {
+            evaluatePawns(board);
+            int fullScore = taper(materialDiff(board, pieceValues) + pieceActivity(board, pieceTables) + pawnScore,
+                    materialDiff(board, endPieceValues) + pieceActivity(board, endPieceTables) + endPawnScore, phase);
+            if (score != fullScore) {
+                throw new IllegalStateException("Incremental score " + score + " != full score " + fullScore + " in " + new FEN().getFen(board));
+            }
+        }
+
+        return score;
+
+    }
+
+    // scores doubled, isolated, backward and passed pawns for both sides, and finds the passed pawns
+    public void evaluatePawns(Board board) {
+
+        pawnScore = endPawnScore = 0;
+
+        for (int color = 0; color < 2; color++) {
+
+            int sign = color == 0 ? 1 : -1;
+            long friendlyPawns = board.getPieces(color, pawnIndex);
+            long enemyPawns = board.getPieces(1 - color, pawnIndex);
+            passedPawns[color] = 0L;
+
+            for (int col = 0; col < 8; col++) {
+                int extraPawns = Math.max(0, Long.bitCount(friendlyPawns & columnMasks[col]) - 1);
+                pawnScore += sign * extraPawns * doubledPawn[0];
+                endPawnScore += sign * extraPawns * doubledPawn[1];
+            }
+
+            // iterates through each set bit of the pawn bitboard
+            long pawns = friendlyPawns;
+            while (pawns != 0) {
+
+                int square = Long.numberOfTrailingZeros(pawns);
+                pawns &= pawns - 1;
+                int col = square & 7;
+
+                if ((friendlyPawns & adjacentColumnMasks[col]) == 0) {
+                    pawnScore += sign * isolatedPawn[0];
+                    endPawnScore += sign * isolatedPawn[1];
+                } else if ((friendlyPawns & supportMasks[color][square]) == 0 && (Attacks.pawnAttacks(color, square - 8 * sign) & enemyPawns) != 0) {
+                    pawnScore += sign * backwardPawn[0];
+                    endPawnScore += sign * backwardPawn[1];
+                }
+
+                if ((enemyPawns & passedPawnMasks[color][square]) == 0) {
+                    // rows moved up from the pawn's starting side of the board
+                    int rowsAdvanced = color == 0 ? 7 - (square >> 3) : square >> 3;
+                    passedPawns[color] |= 1L << square;
+                    pawnScore += sign * passedPawn[rowsAdvanced];
+                    endPawnScore += sign * endPassedPawn[rowsAdvanced];
+                }
+
+            }
+
+        }
+
+    }
+
+    // weights the middlegame score by phase and the endgame score by the rest
+    private static int taper(int score, int endScore, int phase) {
+        return (score * phase + endScore * (MAX_PHASE - phase)) / MAX_PHASE;
+    }
+
+    // middlegame material value of a piece of either color
+    public static int getPieceValue(int pieceNum) {
+        return pieceValues[Math.abs(pieceNum) - 1];
+    }
+
+    // middlegame score a piece adds to white's side of the evaluation on a square, for keeping the score up to date in Board
+    public static int pieceSquareValue(int pieceNum, int square) {
+        return pieceSquareValues[pieceNum + 6][square];
+    }
+
+    // endgame score a piece adds to white's side of the evaluation on a square
+    public static int endPieceSquareValue(int pieceNum, int square) {
+        return endPieceSquareValues[pieceNum + 6][square];
+    }
+
+    public int materialDiff(Board board, int [] pieceValues) {
+
+        int matDiff = 0;
+        for (int color = 0; color < 2; color++) {
+            for (int pieceIndex = 0; pieceIndex < 6; pieceIndex++) {
+
+                if (color == 0) {
+                    matDiff += Long.bitCount(board.getPieces(color, pieceIndex)) * pieceValues[pieceIndex];
+                }
+                else {
+                    matDiff -= Long.bitCount(board.getPieces(color, pieceIndex)) * pieceValues[pieceIndex];
+                }
+
+            }
+        }
+        return matDiff;
+
+    }
+
+    public int pieceActivity(Board board, int [][][] pieceTables) {
+
+        int actDiff = 0;
+        for (int color = 0; color < 2; color++) {
+            for (int pieceIndex = 0; pieceIndex < 6; pieceIndex++) {
+
+                // iterates through each set bit of the piece bitboard
+                long pieces = board.getPieces(color, pieceIndex);
+                while (pieces != 0) {
+
+                    int square = Long.numberOfTrailingZeros(pieces);
+                    pieces &= pieces - 1;
+                    int row = square >> 3;
+                    int col = square & 7;
+
+                    if (color == 0) {
+                        actDiff += pieceTables[pieceIndex][row][col];
+                    }
+                    else {
+                        actDiff -= pieceTables[pieceIndex][7-row][col];
+                    }
+
+                }
+            }
+        }
+
+        return actDiff;
+
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    // passed pawns of a color in the position last scored. Index 0 for white, index 1 for black
+    public long getPassedPawns(int colorIndex) {
+        return pawnEntry == -1 ? 0L : pawnHashTable.getPassedPawns(pawnEntry, colorIndex);
+    }
+
+    public PawnHashTable getPawnHashTable() {
+        return pawnHashTable;
+    }
+
+    public boolean isDebug() {
+        return debug;
+    }
+
+    public void setDebug(boolean debug) {
+        this.debug = debug;
+    }
+
+}
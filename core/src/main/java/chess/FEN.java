@@ -1,36 +1,9 @@
-import java.util.Set;
-import java.util.Stack;
+package chess;
 
 public class FEN implements Piece {
 
-    // list of all fen strings
-    private final Stack<String> fenList;
-    // list of all cut fen string to determine 3 move repetition
-    private final Stack<String> cutFenList;
-
     // FEN of chess starting position
     public static final String startFen = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
-    // cut FEN of chess starting position
-    public static final String startCutFen = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq";
-
-    public FEN() {
-
-        fenList = new Stack<>();
-        cutFenList = new Stack<>();
-        setFen(startFen);
-        fenList.push(startFen);
-        cutFenList.push(startCutFen);
-
-    }
-
-    public FEN(String fen) {
-
-        fenList = new Stack<>();
-        cutFenList = new Stack<>();
-        fenList.push(fen);
-        cutFenList.push(getCutFen(fen));
-
-    }
 
     public String getFen(Board board) {
 
@@ -38,27 +11,20 @@ public class FEN implements Piece {
         String halfMoveClock = " ";
         String fullMoveNum = " ";
 
-        // getting en passant FEN
-        if (board.getMoves().isEmpty() || !board.isMoveNormal(board.getLastMove())) {
+        // getting en passant FEN. The column is only set when a pawn can take en passant, so only then is a square given
+        if (board.getEnPassantCol() == -1) {
             EPTargetSquare += "-";
         }
         else {
-
-            Move lastMove = board.getLastMove();
-
-            if (Math.abs(board.getBoard()[lastMove.getTargetRow()][lastMove.getTargetCol()]) == pawnNum && Math.abs(lastMove.getStartRow() - lastMove.getTargetRow()) == 2) {
-                EPTargetSquare += lastMove.getTargetNotation().substring(0,1) + (Integer.parseInt(lastMove.getTargetNotation().substring(1)) + board.getTurn());
-            } else {
-                EPTargetSquare += "-";
-            }
-
+            // square behind the pawn that just moved 2 squares
+            EPTargetSquare += new Square(board.calcEPRow() - board.getTurn(), board.getEnPassantCol());
         }
 
         // getting fifty move count FEN
         halfMoveClock += board.getFiftyMoveCount();
 
         // getting total amount of full moves  FEN
-        fullMoveNum += board.getMoves().size() / 2 + 1;
+        fullMoveNum += board.getPly() / 2 + 1;
 
         return getCutFen(board) + EPTargetSquare + halfMoveClock + fullMoveNum;
 
@@ -129,28 +95,27 @@ public class FEN implements Piece {
 
     }
 
+    // sets up a board from a FEN string. The half move clock and full move number can be left off. Throws
+    // IllegalArgumentException if the FEN can't be read, doesn't have one king per side or has a pawn on a back row
     public Board setFen(String fen) {
 
         Board board = new Board();
 
         // Index 0: piece placement. Index 1: active color. Index 2: castling availability. Index 3: En Passant target square. Index 4: Half move clock. Index 5: Full move number
-        String [] fenParts = fen.split(" ");
-
-        // clear board
-        board.setBoard(new int[8][8]);
-
-        // new board has new piece locations
-        for (Set<Square>[] hashSets : board.getPieceLoc()) {
-            for (int j = 0; j < board.getPieceLoc()[0].length; j++) {
-                hashSets[j].clear();
-            }
+        String [] fenParts = fen.trim().split("\\s+");
+        if (fenParts.length < 4) {
+            throw new IllegalArgumentException("FEN needs piece placement, turn, castling and en passant fields: " + fen);
         }
 
-        // new board has new value totals
-        board.setValue(new int[] {0,0});
+        // clear board, which also resets piece bitboards and value totals
+        board.clear();
 
         // setting board
         String [] boardFen = fenParts[0].split("/");
+        if (boardFen.length != 8) {
+            throw new IllegalArgumentException("FEN needs 8 rows: " + fen);
+        }
+
         for (int i = 0; i < boardFen.length; i++) {
 
             char [] chars = boardFen[i].toCharArray();
@@ -161,32 +126,47 @@ public class FEN implements Piece {
                 if (Character.isLetter(aChar)) {
 
                     int pieceNum = board.letterToNum(aChar);
+                    if (pieceNum == noneNum || counter >= 8) {
+                        throw new IllegalArgumentException("Bad FEN row " + boardFen[i] + ": " + fen);
+                    }
 
                     // sets board position
-                    board.getBoard()[i][counter] = pieceNum;
-
-                    int colorIndex = board.getPieceIndex(i, counter);
-
-                    // sets value total
-                    board.addValue(colorIndex, board.pieceNumToValue(pieceNum));
-                    // sets pieceLoc
-                    board.addPieceLoc(colorIndex, Math.abs(pieceNum) - 1, i, counter);
+                    board.setPiece(i, counter, pieceNum);
                     // increments counter
                     counter++;
 
+                } else if (aChar >= '1' && aChar <= '8') {
+                    counter += aChar - '0';
                 } else {
-                    counter += Character.getNumericValue(aChar);
+                    throw new IllegalArgumentException("Bad FEN row " + boardFen[i] + ": " + fen);
                 }
 
             }
 
+            if (counter != 8) {
+                throw new IllegalArgumentException("Bad FEN row " + boardFen[i] + ": " + fen);
+            }
+
+        }
+
+        // move generation needs both kings
+        if (Long.bitCount(board.getPieces(0, kingIndex)) != 1 || Long.bitCount(board.getPieces(1, kingIndex)) != 1) {
+            throw new IllegalArgumentException("FEN needs one king per side: " + fen);
+        }
+
+        // pawns can't stand on the first or last row, and move generation would push them off the board
+        long pawns = board.getPieces(0, pawnIndex) | board.getPieces(1, pawnIndex);
+        if ((pawns & (0xFFL | 0xFFL << 56)) != 0) {
+            throw new IllegalArgumentException("FEN has a pawn on the first or last row: " + fen);
         }
 
         // setting turn
         if (fenParts[1].equals("w")) {
             board.setTurn(1);
-        } else {
+        } else if (fenParts[1].equals("b")) {
             board.setTurn(-1);
+        } else {
+            throw new IllegalArgumentException("Bad FEN turn " + fenParts[1] + ": " + fen);
         }
 
         // setting castling rights
@@ -201,29 +181,25 @@ public class FEN implements Piece {
 
         }
 
-        // setting 50 move count
-        board.setFiftyMoveCount(Integer.parseInt(fenParts[4]));
-
-        return board;
+        // setting en passant column, only if a pawn can take en passant, the same as after a double pawn push in Board
+        if (fenParts[3].equals("-")) {
+            board.setEnPassantCol(-1);
+        } else if (fenParts[3].length() == 2 && fenParts[3].charAt(0) >= 'a' && fenParts[3].charAt(0) <= 'h') {
+            int col = fenParts[3].charAt(0) - 'a';
+            boolean canCapture = board.hasEnPassantCapturer(Board.toSquare(board.calcEPRow(), col), board.turnToColorIndex());
+            board.setEnPassantCol(canCapture ? col : -1);
+        } else {
+            throw new IllegalArgumentException("Bad FEN en passant square " + fenParts[3] + ": " + fen);
+        }
 
-    }
+        // setting 50 move count. A bad number throws NumberFormatException, which is an IllegalArgumentException
+        board.setFiftyMoveCount(fenParts.length > 4 ? Integer.parseInt(fenParts[4]) : 0);
 
-    public void addFen(String fen) {
-        fenList.push(fen);
-        cutFenList.push(getCutFen(fen));
-    }
+        // key has to be worked out again now that the whole position is set
+        board.calculateKey();
 
-    public void removeLastFen() {
-        fenList.pop();
-        cutFenList.pop();
-    }
-
-    public String getLastFen() {
-        return fenList.peek();
-    }
+        return board;
 
-    public Stack<String> getCutFenList() {
-        return cutFenList;
     }
 
 }
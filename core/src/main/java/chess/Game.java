@@ -1,7 +1,6 @@
-import java.util.Stack;
-import java.util.Map;
-import java.util.HashMap;
-import java.util.Set;
+package chess;
+
+import java.util.List;
 import java.util.Scanner;
 
 public class Game {
@@ -16,6 +15,8 @@ public class Game {
     private final MoveGenerator moveGenerator;
     // Evaluator
     private final Evaluator evaluator;
+    // legal moves of the current position, reused for checking game endings
+    private final MoveList legalMoves;
 
     // black ansi code
     private static final String BLACK_COL = "\u001B[90m";
@@ -31,16 +32,18 @@ public class Game {
         fenctionality = new FEN();
         moveGenerator = new MoveGenerator();
         evaluator = new Evaluator();
+        legalMoves = new MoveList();
 
     }
 
     // starts game from a specific FEN string position
     public Game(String fen) {
 
-        fenctionality = new FEN(fen);
+        fenctionality = new FEN();
         board = fenctionality.setFen(fen);
         moveGenerator = new MoveGenerator();
         evaluator = new Evaluator();
+        legalMoves = new MoveList();
 
     }
 
@@ -105,38 +108,24 @@ public class Game {
 
     }
 
-    public void move(Move move) {
-
-        switch (move.getType()) {
-            case NORMAL -> // normal moves
-                board.normalMove(move);
-            case CASTLE_KING, CASTLE_QUEEN -> // castling
-                board.castle(move);
-            case EN_PASSANT -> // en passant
-                board.enPassant(move);
-            case PROMOTE_BISHOP, PROMOTE_KNIGHT, PROMOTE_ROOK, PROMOTE_QUEEN -> // pawn promotion
-                board.promote(move);
-        }
-
-        board.incrementTurn();
-        board.addMove(move);
-        fenctionality.addFen(fenctionality.getFen(board));
+    public void move(int move) {
+        board.makeMove(move);
+    }
 
+    public void move(Move move) {
+        board.makeMove(move);
     }
 
     public void unMove() {
-
-        fenctionality.removeLastFen();
-        board = fenctionality.setFen(fenctionality.getLastFen());
-
+        board.unmakeMove();
     }
 
     // returns move if true, returns null if false
     public Move isValidMove(String input) {
 
-        Set<Move> legalMoves = moveGenerator.generateLegalMoves(board);
+        List<Move> moves = moveGenerator.getLegalMoves(board);
 
-        for (Move move : legalMoves) {
+        for (Move move : moves) {
             if (move.toString().equals(input)) {
                 return move;
             }
@@ -149,7 +138,8 @@ public class Game {
     // checks if one side has been checkmated
     public boolean isCheckmate() {
 
-        boolean noLegalMoves = moveGenerator.generateLegalMoves(board).isEmpty();
+        moveGenerator.generateLegalMoves(board, legalMoves);
+        boolean noLegalMoves = legalMoves.isEmpty();
         boolean isCheck = moveGenerator.isInCheck();
 
         if (noLegalMoves && isCheck) {
@@ -171,7 +161,8 @@ public class Game {
     // checks draw by stalemate
     public boolean drawByStalemate() {
 
-        boolean noLegalMoves = moveGenerator.generateLegalMoves(board).isEmpty();
+        moveGenerator.generateLegalMoves(board, legalMoves);
+        boolean noLegalMoves = legalMoves.isEmpty();
         boolean isCheck = moveGenerator.isInCheck();
 
         if (noLegalMoves && !isCheck) {
@@ -186,28 +177,10 @@ public class Game {
     // checks draw by repetition
     public boolean drawByRepetition() {
 
-        Stack<String> cutFenList = fenctionality.getCutFenList();
-
-        class MutableInt {
-            int value = 1;
-            public void increment() {value++;}
-            public int get() {return value;}
-        }
-
-        Map<String, MutableInt> fenCount = new HashMap<>(cutFenList.size());
-
-        for (String cutFen: cutFenList) {
-
-            MutableInt count = fenCount.get(cutFen);
-            if (count == null) {
-                fenCount.put(cutFen, new MutableInt());
-            } else if (count.get() == 2) {
-                gameEnd = GameEndType.REPETITION;
-                return true;
-            } else {
-                count.increment();
-            }
-
+        // position came up twice before, making this the third time
+        if (board.countRepetitions() >= 2) {
+            gameEnd = GameEndType.REPETITION;
+            return true;
         }
 
         return false;
@@ -229,7 +202,8 @@ public class Game {
     // checks draw by 50 move rule
     public boolean drawBy50MoveRule() {
 
-        if (board.getFiftyMoveCount() == 50) {
+        // the count is in half moves, so 50 moves by each side
+        if (board.getFiftyMoveCount() >= 100) {
             gameEnd = GameEndType.FIFTY_MOVE_RULE;
             return true;
         }
@@ -1,3 +1,5 @@
+package chess;
+
 public enum GameEndType {
 
     // game endings with someone winning and other losing
@@ -0,0 +1,36 @@
+package chess;
+
+// sizing shared by the hash tables. Each table is one long array holding a power of two number of entries, so an
+// entry's index is the key masked by the entry count minus 1
+public final class HashTables {
+
+    // java arrays are indexed by int, so this is the longest a table's array can be while its length stays a power of two
+    private static final long MAX_LONGS = 1L << 30;
+    // size of a table at MAX_LONGS. Bigger sizes get a table this big
+    public static final int MAX_SIZE_MB = (int) (MAX_LONGS * Long.BYTES / (1024 * 1024));
+
+    private HashTables() {
+    }
+
+    // the largest power of two number of entries of longsPerEntry longs that fits in sizeMB (capped at MAX_SIZE_MB), at
+    // least 1
+    public static int entries(int sizeMB, int longsPerEntry) {
+
+        long entries = Long.highestOneBit(Math.max(1L, (long) sizeMB * 1024 * 1024 / (longsPerEntry * Long.BYTES)));
+        return (int) Math.min(entries, MAX_LONGS / longsPerEntry);
+
+    }
+
+    public static int getSizeMB(long [] table) {
+        return (int) ((long) table.length * Long.BYTES / (1024 * 1024));
+    }
+
+    // percentage of probes that found their entry
+    public static double hitRate(long hits, long misses) {
+
+        long probes = hits + misses;
+        return probes == 0 ? 0 : hits * 100.0 / probes;
+
+    }
+
+}
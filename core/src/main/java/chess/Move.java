@@ -0,0 +1,167 @@
+package chess;
+
+import java.util.Objects;
+
+public class Move {
+
+    // moves are packed into an int while generating and searching, and only turned into Move objects for display:
+    // bits 0-5 start square, bits 6-11 target square, bits 12-14 move type value, bit 15 capture flag,
+    // bits 16-18 captured piece number, bits 19-21 moving piece number. Piece numbers are without color
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int TARGET_SHIFT = 6;
+    private static final int TYPE_SHIFT = 12;
+    private static final int CAPTURE_FLAG = 1 << 15;
+    private static final int CAPTURED_SHIFT = 16;
+    private static final int MOVED_SHIFT = 19;
+
+    // square piece is moving from
+    private final Square startSquare;
+    // square piece is moving to
+    private final Square targetSquare;
+    // type of move
+    private final MoveType type;
+    // if move is a capture or not
+    private final boolean isCapture;
+    // packed int form of the move
+    private final int encoded;
+
+    // constructor given square indices
+    public Move(int row, int col, int targetRow, int targetCol, MoveType type, boolean isCapture) {
+
+        startSquare = new Square(row, col);
+        targetSquare = new Square(targetRow, targetCol);
+        this.type = type;
+        this.isCapture = isCapture;
+        encoded = encode(Board.toSquare(row, col), Board.toSquare(targetRow, targetCol), type.getValue(), isCapture, 0, 0);
+
+    }
+
+    // constructor given a packed move
+    public Move(int encoded) {
+
+        int start = getStart(encoded);
+        int target = getTarget(encoded);
+
+        startSquare = new Square(start >> 3, start & 7);
+        targetSquare = new Square(target >> 3, target & 7);
+        type = getType(encoded);
+        isCapture = isCapture(encoded);
+        this.encoded = encoded;
+
+    }
+
+    // packs a move into an int
+    public static int encode(int startSquare, int targetSquare, int typeValue, boolean isCapture, int movedPiece, int capturedPiece) {
+
+        return startSquare
+                | targetSquare << TARGET_SHIFT
+                | typeValue << TYPE_SHIFT
+                | (isCapture ? CAPTURE_FLAG : 0)
+                | Math.abs(capturedPiece) << CAPTURED_SHIFT
+                | Math.abs(movedPiece) << MOVED_SHIFT;
+
+    }
+
+    public static int getStart(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int getTarget(int move) {
+        return move >>> TARGET_SHIFT & SQUARE_MASK;
+    }
+
+    public static int getTypeValue(int move) {
+        return move >>> TYPE_SHIFT & 7;
+    }
+
+    public static MoveType getType(int move) {
+        return MoveType.fromValue(getTypeValue(move));
+    }
+
+    public static boolean isCapture(int move) {
+        return (move & CAPTURE_FLAG) != 0;
+    }
+
+    public static int getCapturedPiece(int move) {
+        return move >>> CAPTURED_SHIFT & 7;
+    }
+
+    public static int getMovedPiece(int move) {
+        return move >>> MOVED_SHIFT & 7;
+    }
+
+    // move in start square + target square notation, ex: e2e4 or a7a8q
+    public static String toString(int move) {
+        return new Move(move).toString();
+    }
+
+    public Square getStartSquare() {
+        return startSquare;
+    }
+
+    public Square getTargetSquare() {
+        return targetSquare;
+    }
+
+    public int getStartRow() {
+        return startSquare.getRow();
+    }
+
+    public int getStartCol() {
+        return startSquare.getCol();
+    }
+
+    public int getTargetRow() {
+        return targetSquare.getRow();
+    }
+
+    public int getTargetCol() {
+        return targetSquare.getCol();
+    }
+
+    public String getTargetNotation() {
+        return targetSquare.toString();
+    }
+
+    public MoveType getType() {
+        return type;
+    }
+
+    public boolean isCapture() {
+        return isCapture;
+    }
+
+    public int toInt() {
+        return encoded;
+    }
+
+    public String toString() {
+
+        String promotionChar = switch (type) {
+            case PROMOTE_QUEEN -> "q";
+            case PROMOTE_ROOK -> "r";
+            case PROMOTE_KNIGHT -> "n";
+            case PROMOTE_BISHOP -> "b";
+            default -> "";
+        };
+
+        return startSquare.toString() + targetSquare + promotionChar;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+
+        Move other = (Move) obj;
+
+        return this.startSquare.equals(other.getStartSquare()) && this.targetSquare.equals(other.getTargetSquare()) && this.type == other.type && this.isCapture == other.isCapture;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startSquare, targetSquare, type, isCapture);
+    }
+
+}
@@ -0,0 +1,686 @@
+package chess;
+
+import java.util.*;
+
+public class MoveGenerator implements Piece {
+
+    // list the legal moves are being added to
+    private MoveList moveList;
+    // squares attacked by the opponent, found with the friendly king taken off the board so it can't step back along a checking ray
+    private long enemyTargetedSquares;
+
+    private int friendlyKingSquare;
+
+    // enemy pieces giving check
+    private long checkers;
+    // squares a non king move has to land on to get out of check: the checker and the squares between it and the king
+    private long checkMask;
+    private boolean inDoubleCheck;
+
+    // squares moves can land on: everywhere for all moves, enemy pieces for captures, empty squares for quiet moves
+    private long targetMask;
+    // which moves are generated: captures and promotions, every other (quiet) move, or both
+    private boolean includeCaptures;
+    private boolean includeQuiets;
+    // the attack map is only built once king moves or castling need it
+    private boolean enemyTargetedSquaresFound;
+    // the staged API (generateCaptures, generateQuiets) gives pseudo legal moves, to be checked one at a time with isLegal
+    private boolean pseudoLegal;
+    // whether the moves being generated are kept to the legal ones, or may leave the king in check
+    private boolean checkLegality;
+    // moves of a single piece, for checking that a move from another position is legal here
+    private final MoveList pieceMoves;
+
+    // friendly pieces pinned to the king
+    private long pinnedPieces;
+    // for each pinned piece, the line through the king and the pinning piece that it can still move along
+    private final long [] pinRays;
+
+    public MoveGenerator() {
+
+        moveList = null;
+        enemyTargetedSquares = 0L;
+
+        friendlyKingSquare = -1;
+
+        checkers = 0L;
+        checkMask = -1L;
+        inDoubleCheck = false;
+
+        targetMask = -1L;
+        includeCaptures = true;
+        includeQuiets = true;
+        enemyTargetedSquaresFound = false;
+        pseudoLegal = false;
+        checkLegality = true;
+        pieceMoves = new MoveList();
+
+        pinnedPieces = 0L;
+        pinRays = new long[64];
+
+    }
+
+    public void setMoveGenerator(Board board) {
+
+        enemyTargetedSquares = 0L;
+        enemyTargetedSquaresFound = false;
+
+        friendlyKingSquare = Long.numberOfTrailingZeros(board.getPieces(board.turnToColorIndex(), kingIndex));
+
+        checkers = 0L;
+        checkMask = -1L;
+        inDoubleCheck = false;
+
+        pinnedPieces = 0L;
+
+    }
+
+    // fills the move list with the legal moves packed into ints, without allocating
+    public void generateLegalMoves(Board board, MoveList moveList) {
+
+        prepare(board);
+        generate(board, moveList, true, true, true);
+
+    }
+
+    // fills the move list with the pseudo legal moves: every move the pieces can make, even ones leaving the king in
+    // check (other than in double check, where only king moves are given). prepare still runs and finds the checkers
+    // and pins, but moves aren't filtered by them, and the enemy attack map is never built, so king moves, castling and
+    // en passant go unchecked too. Each move is checked with isLegal only if it is about to be played. isLegal goes by
+    // what prepare found, so it has to be called before the board moves on from this position
+    public void generatePseudoLegalMoves(Board board, MoveList moveList) {
+
+        prepare(board);
+        generate(board, moveList, true, true, false);
+
+    }
+
+    // fills the move list with only the legal captures and promotions. Quiet moves are never generated, rather than
+    // generated and thrown away
+    public void generateLegalCaptures(Board board, MoveList moveList) {
+
+        prepare(board);
+        generate(board, moveList, true, false, true);
+
+    }
+
+    // staged generation, for the search: prepare finds the checks and pins, then generateCaptures, generateQuiets and
+    // isLegalMove can be called for that position in any order, each doing only the work for its own moves. A node that
+    // cuts off on the hash move or a capture never generates its quiet moves
+    public void prepare(Board board) {
+
+        setMoveGenerator(board);
+        findChecksAndPins(board);
+
+    }
+
+    // fills the move list with the captures and promotions, after prepare. Pseudo legal if set to be
+    public void generateCaptures(Board board, MoveList moveList) {
+        generate(board, moveList, true, false, !pseudoLegal);
+    }
+
+    // fills the move list with every move that isn't a capture or promotion, castling included, after prepare. Pseudo
+    // legal if set to be
+    public void generateQuiets(Board board, MoveList moveList) {
+        generate(board, moveList, false, true, !pseudoLegal);
+    }
+
+    // true if a move from another position, like a hash move or a killer, is one of the legal moves here. Only the
+    // moves of the piece on its start square are generated. After prepare
+    public boolean isLegalMove(Board board, int move) {
+
+        int square = Move.getStart(move);
+        int piece = board.getPiece(square);
+
+        if (piece == noneNum || piece * board.getTurn() < 0 || Math.abs(piece) != Move.getMovedPiece(move)) {
+            return false;
+        }
+        // if in double check only possible moves are king moves
+        if (inDoubleCheck && Math.abs(piece) != kingNum) {
+            return false;
+        }
+
+        moveList = pieceMoves;
+        moveList.clear();
+        includeCaptures = true;
+        includeQuiets = true;
+        checkLegality = !pseudoLegal;
+        targetMask = -1L;
+
+        long notFriendly = ~board.getColorPieces(board.turnToColorIndex());
+        long occupied = board.getOccupied();
+
+        switch (Math.abs(piece)) {
+            case pawnNum -> getPawnMoves(square, board);
+            case bishopNum -> getPieceMoves(square, Attacks.bishopAttacks(square, occupied) & notFriendly, board);
+            case knightNum -> getPieceMoves(square, Attacks.knightAttacks(square) & notFriendly, board);
+            case rookNum -> getPieceMoves(square, Attacks.rookAttacks(square, occupied) & notFriendly, board);
+            case queenNum -> getPieceMoves(square, Attacks.queenAttacks(square, occupied) & notFriendly, board);
+            default -> {
+                getKingMoves(square, board);
+                addCastlingMoves(board);
+            }
+        }
+
+        for (int i = 0; i < moveList.size(); i++) {
+            if (moveList.get(i) == move) {
+                return !pseudoLegal || isLegal(board, move);
+            }
+        }
+        return false;
+
+    }
+
+    // true if a pseudo legal move doesn't leave the king in check, going by the checks and pins found by prepare. Only
+    // king moves and en passant need to look at attacks, and then only from the one square that matters
+    public boolean isLegal(Board board, int move) {
+
+        int start = Move.getStart(move);
+        int target = Move.getTarget(move);
+        int type = Move.getTypeValue(move);
+        long targetBit = 1L << target;
+
+        // the king can't castle out of, through or into check
+        if (type == MoveType.CASTLE_KING.getValue() || type == MoveType.CASTLE_QUEEN.getValue()) {
+
+            long occupied = board.getOccupied();
+            int passedSquare = (start + target) / 2;
+            return !isSquareAttacked(board, start, occupied, 0L) && !isSquareAttacked(board, passedSquare, occupied, 0L)
+                    && !isSquareAttacked(board, target, occupied, 0L);
+
+        }
+
+        // the king is taken off so it can't shelter the square behind it from a slider checking it. A piece it captures
+        // doesn't attack anything any more
+        if (start == friendlyKingSquare) {
+            return !isSquareAttacked(board, target, board.getOccupied() & ~(1L << start), targetBit);
+        }
+
+        if (type == MoveType.EN_PASSANT.getValue()) {
+            return isEnPassantLegal(start >> 3, start & 7, target >> 3, target & 7, board);
+        }
+
+        // any other move has to block or take a single checker, and a pinned piece has to stay on its pin ray
+        if (inDoubleCheck || (checkMask & targetBit) == 0) {
+            return false;
+        }
+        return (pinnedPieces & 1L << start) == 0 || (pinRays[start] & targetBit) != 0;
+
+    }
+
+    // true if an opponent's piece, other than the removed ones, attacks the square with the given squares occupied
+    private boolean isSquareAttacked(Board board, int square, long occupied, long removed) {
+
+        int colorIndex = board.turnToColorIndex();
+        int oppIndex = board.turnToOppColorIndex();
+        long remaining = ~removed;
+
+        long oppDiagonal = (board.getPieces(oppIndex, bishopIndex) | board.getPieces(oppIndex, queenIndex)) & remaining;
+        long oppStraight = (board.getPieces(oppIndex, rookIndex) | board.getPieces(oppIndex, queenIndex)) & remaining;
+
+        return (Attacks.pawnAttacks(colorIndex, square) & board.getPieces(oppIndex, pawnIndex) & remaining) != 0
+                || (Attacks.knightAttacks(square) & board.getPieces(oppIndex, knightIndex) & remaining) != 0
+                || (Attacks.kingAttacks(square) & board.getPieces(oppIndex, kingIndex)) != 0
+                || (Attacks.bishopAttacks(square, occupied) & oppDiagonal) != 0
+                || (Attacks.rookAttacks(square, occupied) & oppStraight) != 0;
+
+    }
+
+    private void generate(Board board, MoveList moveList, boolean includeCaptures, boolean includeQuiets, boolean checkLegality) {
+
+        this.moveList = moveList;
+        moveList.clear();
+
+        this.includeCaptures = includeCaptures;
+        this.includeQuiets = includeQuiets;
+        this.checkLegality = checkLegality;
+        if (!includeQuiets) {targetMask = board.getColorPieces(board.turnToOppColorIndex());}
+        else if (!includeCaptures) {targetMask = ~board.getOccupied();}
+        else {targetMask = -1L;}
+
+        // if in double check only possible moves are king moves
+        if (inDoubleCheck) {
+            getKingMoves(friendlyKingSquare, board);
+            return;
+        }
+
+        generateMoves(board);
+
+    }
+
+    // counts the legal moves without adding them to a list, by counting the target squares of each piece. For perft leaves
+    public int countLegalMoves(Board board) {
+
+        prepare(board);
+        checkLegality = true;
+
+        int colorIndex = board.turnToColorIndex();
+        long notFriendly = ~board.getColorPieces(colorIndex);
+        long occupied = board.getOccupied();
+
+        int count = Long.bitCount(Attacks.kingAttacks(friendlyKingSquare) & notFriendly & ~getEnemyTargetedSquares(board));
+
+        // if in double check only possible moves are king moves
+        if (inDoubleCheck) {
+            return count;
+        }
+
+        for (int pieceIndex = 0; pieceIndex < 5; pieceIndex++) {
+
+            long pieces = board.getPieces(colorIndex, pieceIndex);
+            while (pieces != 0) {
+
+                int square = Long.numberOfTrailingZeros(pieces);
+                pieces &= pieces - 1;
+
+                count += switch (pieceIndex) {
+                    case pawnIndex -> countPawnMoves(square, board);
+                    case bishopIndex -> Long.bitCount(Attacks.bishopAttacks(square, occupied) & notFriendly & getAllowedSquares(square));
+                    case knightIndex -> Long.bitCount(Attacks.knightAttacks(square) & notFriendly & getAllowedSquares(square));
+                    case rookIndex -> Long.bitCount(Attacks.rookAttacks(square, occupied) & notFriendly & getAllowedSquares(square));
+                    default -> Long.bitCount(Attacks.queenAttacks(square, occupied) & notFriendly & getAllowedSquares(square));
+                };
+
+            }
+
+        }
+
+        if (canKSCastle(board)) {count++;}
+        if (canQSCastle(board)) {count++;}
+
+        return count;
+
+    }
+
+    // counts the moves getPawnMoves would add, with each promotion counting as 4 moves
+    private int countPawnMoves(int square, Board board) {
+
+        int turn = board.getTurn();
+        int row = square >> 3;
+        long allowedSquares = getAllowedSquares(square);
+        int targetSquare = square - 8 * turn;
+        long targets = 0L;
+
+        if (board.getPiece(targetSquare) == noneNum) {
+
+            targets |= 1L << targetSquare;
+
+            targetSquare = square - 16 * turn;
+            if (row == board.calcStartPawnRow() && board.getPiece(targetSquare) == noneNum) {
+                targets |= 1L << targetSquare;
+            }
+
+        }
+
+        targets |= Attacks.pawnAttacks(board.turnToColorIndex(), square) & board.getColorPieces(board.turnToOppColorIndex());
+        int count = Long.bitCount(targets & allowedSquares);
+
+        // a pawn one step from promoting can only land on the promotion row
+        if (row - turn == board.calcPromoteRow()) {
+            count *= 4;
+        }
+
+        if (canEnPassant(row, square & 7, board) && isEnPassantLegal(row, square & 7, row - turn, board.getEnPassantCol(), board)) {
+            count++;
+        }
+
+        return count;
+
+    }
+
+    // returns the legal moves as Move objects, for displaying and reading moves
+    public List<Move> getLegalMoves(Board board) {
+
+        MoveList legalMoves = new MoveList();
+        generateLegalMoves(board, legalMoves);
+
+        List<Move> moves = new ArrayList<>(legalMoves.size());
+        for (int i = 0; i < legalMoves.size(); i++) {
+            moves.add(new Move(legalMoves.get(i)));
+        }
+        return moves;
+
+    }
+
+    public void generateMoves(Board board) {
+
+        int colorIndex = board.turnToColorIndex();
+        long notFriendly = ~board.getColorPieces(colorIndex);
+        long occupied = board.getOccupied();
+
+        // iterates through the correct color's different types of piece bitboards
+        for (int pieceIndex = 0; pieceIndex < 6; pieceIndex++) {
+
+            // iterates through each set bit of the piece's bitboard to get the individual pieces
+            long pieces = board.getPieces(colorIndex, pieceIndex);
+            while (pieces != 0) {
+
+                int square = Long.numberOfTrailingZeros(pieces);
+                pieces &= pieces - 1;
+
+                switch (pieceIndex) {
+                    case pawnIndex -> getPawnMoves(square, board);
+                    case bishopIndex -> getPieceMoves(square, Attacks.bishopAttacks(square, occupied) & notFriendly, board);
+                    case knightIndex -> getPieceMoves(square, Attacks.knightAttacks(square) & notFriendly, board);
+                    case rookIndex -> getPieceMoves(square, Attacks.rookAttacks(square, occupied) & notFriendly, board);
+                    case queenIndex -> getPieceMoves(square, Attacks.queenAttacks(square, occupied) & notFriendly, board);
+                    case kingIndex -> getKingMoves(square, board);
+                }
+
+            }
+
+        }
+
+        if (includeQuiets) {
+            addCastlingMoves(board);
+        }
+
+    }
+
+    // castling is the king moving 2 squares to either side
+    public void addCastlingMoves(Board board) {
+
+        int kingSquare = Board.toSquare(board.calcStartKingRow(), 4);
+        if (canKSCastle(board)) {moveList.add(Move.encode(kingSquare, kingSquare + 2, MoveType.CASTLE_KING.getValue(), false, kingNum, noneNum));}
+        if (canQSCastle(board)) {moveList.add(Move.encode(kingSquare, kingSquare - 2, MoveType.CASTLE_QUEEN.getValue(), false, kingNum, noneNum));}
+
+    }
+
+    public void getKingMoves(int square, Board board) {
+
+        // king can go to any square not taken by a friendly piece or attacked by the opponent. The attack map is only
+        // built if there is somewhere to go
+        long targets = Attacks.kingAttacks(square) & ~board.getColorPieces(board.turnToColorIndex()) & targetMask;
+        if (targets != 0 && checkLegality) {
+            targets &= ~getEnemyTargetedSquares(board);
+        }
+        addMoves(square, targets, board);
+
+    }
+
+    // adds moves for bishops, knights, rooks and queens given the squares they attack
+    public void getPieceMoves(int square, long targets, Board board) {
+
+        addMoves(square, targets & getAllowedSquares(square) & targetMask, board);
+
+    }
+
+    // adds all the pawn moves, including promotions and en passant
+    public void getPawnMoves(int square, Board board) {
+
+        int turn = board.getTurn();
+        int row = square >> 3;
+        int col = square & 7;
+        long allowedSquares = getAllowedSquares(square);
+        int targetSquare = square - 8 * turn;
+        // pushes that promote are generated with the captures, the rest with the quiet moves
+        boolean canPush = targetSquare >> 3 == board.calcPromoteRow() ? includeCaptures : includeQuiets;
+
+        // checks if pawn can move 1 square up
+        if (canPush && board.getPiece(targetSquare) == noneNum) {
+
+            if ((allowedSquares & 1L << targetSquare) != 0) {
+                addPawnMove(square, targetSquare, false, board);
+            }
+
+            targetSquare = square - 16 * turn;
+
+            // checks if pawn can move 2 squares up
+            if (row == board.calcStartPawnRow() && board.getPiece(targetSquare) == noneNum && (allowedSquares & 1L << targetSquare) != 0) {
+                addPawnMove(square, targetSquare, false, board);
+            }
+
+        }
+
+        if (!includeCaptures) {
+            return;
+        }
+
+        // checks if pawn can capture any pieces normally
+        long captures = Attacks.pawnAttacks(board.turnToColorIndex(), square) & board.getColorPieces(board.turnToOppColorIndex()) & allowedSquares;
+        while (captures != 0) {
+            addPawnMove(square, Long.numberOfTrailingZeros(captures), true, board);
+            captures &= captures - 1;
+        }
+
+        // EN PASSANT FORCED MOVE
+        int enPassantCol = board.getEnPassantCol();
+
+        if (canEnPassant(row, col, board) && (!checkLegality || isEnPassantLegal(row, col, row - turn, enPassantCol, board))) {
+            moveList.add(Move.encode(square, Board.toSquare(row - turn, enPassantCol), MoveType.EN_PASSANT.getValue(), true, pawnNum, pawnNum));
+        }
+
+    }
+
+    // adds a pawn move, or all the promotions if it reaches the last row
+    public void addPawnMove(int square, int targetSquare, boolean isCapture, Board board) {
+
+        int capturedPiece = board.getPiece(targetSquare);
+
+        if (targetSquare >> 3 == board.calcPromoteRow()) {
+            getPromotionMoves(square, targetSquare, isCapture, capturedPiece);
+        } else {
+            moveList.add(Move.encode(square, targetSquare, MoveType.NORMAL.getValue(), isCapture, pawnNum, capturedPiece));
+        }
+
+    }
+
+    // returns moves promoting to different pieces
+    public void getPromotionMoves(int square, int targetSquare, boolean isCapture, int capturedPiece) {
+
+        moveList.add(Move.encode(square, targetSquare, MoveType.PROMOTE_BISHOP.getValue(), isCapture, pawnNum, capturedPiece));
+        moveList.add(Move.encode(square, targetSquare, MoveType.PROMOTE_KNIGHT.getValue(), isCapture, pawnNum, capturedPiece));
+        moveList.add(Move.encode(square, targetSquare, MoveType.PROMOTE_ROOK.getValue(), isCapture, pawnNum, capturedPiece));
+        moveList.add(Move.encode(square, targetSquare, MoveType.PROMOTE_QUEEN.getValue(), isCapture, pawnNum, capturedPiece));
+
+    }
+
+    // adds a normal move from a square to every square in targets
+    public void addMoves(int square, long targets, Board board) {
+
+        int movedPiece = board.getPiece(square);
+
+        while (targets != 0) {
+
+            int targetSquare = Long.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+
+            int capturedPiece = board.getPiece(targetSquare);
+            moveList.add(Move.encode(square, targetSquare, MoveType.NORMAL.getValue(), capturedPiece != noneNum, movedPiece, capturedPiece));
+
+        }
+
+    }
+
+    // squares a non king piece can move to without leaving the king in check
+    public long getAllowedSquares(int square) {
+
+        if (!checkLegality) {
+            return -1L;
+        }
+        if ((pinnedPieces & 1L << square) != 0) {
+            return checkMask & pinRays[square];
+        }
+        return checkMask;
+
+    }
+
+    // checks if can King side castle
+    public boolean canKSCastle(Board board) {
+
+        int row = board.calcStartKingRow();
+
+        boolean emptySquares = board.getPiece(row, 5) == noneNum && board.getPiece(row, 6) == noneNum;
+        boolean hasPiecesNotMoved = board.getCastlingRights()[board.turnToColorIndex()][0];
+        if (!emptySquares || !hasPiecesNotMoved) {
+            return false;
+        }
+        if (!checkLegality) {
+            return true;
+        }
+
+        // the attack map is only looked at once the rest allows castling, since it might not be built yet
+        return (getEnemyTargetedSquares(board) & (1L << Board.toSquare(row, 4) | 1L << Board.toSquare(row, 5) | 1L << Board.toSquare(row, 6))) == 0;
+
+    }
+
+    // checks if can Queen side castle
+    public boolean canQSCastle(Board board) {
+
+        int row = board.calcStartKingRow();
+
+        boolean emptySquares = board.getPiece(row, 1) == noneNum && board.getPiece(row, 2) == noneNum && board.getPiece(row, 3) == noneNum;
+        boolean hasPiecesNotMoved = board.getCastlingRights()[board.turnToColorIndex()][1];
+        if (!emptySquares || !hasPiecesNotMoved) {
+            return false;
+        }
+        if (!checkLegality) {
+            return true;
+        }
+
+        return (getEnemyTargetedSquares(board) & (1L << Board.toSquare(row, 4) | 1L << Board.toSquare(row, 3) | 1L << Board.toSquare(row, 2))) == 0;
+
+    }
+
+    // the squares the opponent attacks, built the first time they are needed for the position
+    private long getEnemyTargetedSquares(Board board) {
+
+        if (!enemyTargetedSquaresFound) {
+            generateEnemyTargetedSquares(board);
+        }
+        return enemyTargetedSquares;
+
+    }
+
+    // finds every square the opponent attacks
+    public void generateEnemyTargetedSquares(Board board) {
+
+        int oppIndex = board.turnToOppColorIndex();
+        long occupied = board.getOccupied();
+        // friendly king is taken off so squares behind it along a checking ray count as attacked
+        long occupiedNoKing = occupied & ~(1L << friendlyKingSquare);
+
+        // iterates through the opponent's different types of piece bitboards
+        for (int pieceIndex = 0; pieceIndex < 6; pieceIndex++) {
+
+            long pieces = board.getPieces(oppIndex, pieceIndex);
+            while (pieces != 0) {
+
+                int square = Long.numberOfTrailingZeros(pieces);
+                pieces &= pieces - 1;
+
+                enemyTargetedSquares |= switch (pieceIndex) {
+                    case pawnIndex -> Attacks.pawnAttacks(oppIndex, square);
+                    case bishopIndex -> Attacks.bishopAttacks(square, occupiedNoKing);
+                    case knightIndex -> Attacks.knightAttacks(square);
+                    case rookIndex -> Attacks.rookAttacks(square, occupiedNoKing);
+                    case queenIndex -> Attacks.queenAttacks(square, occupiedNoKing);
+                    default -> Attacks.kingAttacks(square);
+                };
+
+            }
+
+        }
+
+        enemyTargetedSquaresFound = true;
+
+    }
+
+    // finds the pieces checking the friendly king and the friendly pieces pinned to it
+    public void findChecksAndPins(Board board) {
+
+        int colorIndex = board.turnToColorIndex();
+        int oppIndex = board.turnToOppColorIndex();
+        long occupied = board.getOccupied();
+
+        long oppDiagonal = board.getPieces(oppIndex, bishopIndex) | board.getPieces(oppIndex, queenIndex);
+        long oppStraight = board.getPieces(oppIndex, rookIndex) | board.getPieces(oppIndex, queenIndex);
+
+        // pieces attacking the king, found by looking out from the king as each type of piece
+        checkers = Attacks.pawnAttacks(colorIndex, friendlyKingSquare) & board.getPieces(oppIndex, pawnIndex)
+                | Attacks.knightAttacks(friendlyKingSquare) & board.getPieces(oppIndex, knightIndex)
+                | Attacks.bishopAttacks(friendlyKingSquare, occupied) & oppDiagonal
+                | Attacks.rookAttacks(friendlyKingSquare, occupied) & oppStraight;
+
+        if (Long.bitCount(checkers) == 2) {
+            inDoubleCheck = true;
+        } else if (checkers != 0) {
+            int checkerSquare = Long.numberOfTrailingZeros(checkers);
+            checkMask = checkers | Attacks.between(friendlyKingSquare, checkerSquare);
+        }
+
+        // sliding pieces that would attack the king if only the opponent's pieces were on the board
+        long oppPieces = board.getColorPieces(oppIndex);
+        long pinners = Attacks.bishopAttacks(friendlyKingSquare, oppPieces) & oppDiagonal
+                | Attacks.rookAttacks(friendlyKingSquare, oppPieces) & oppStraight;
+
+        while (pinners != 0) {
+
+            int pinnerSquare = Long.numberOfTrailingZeros(pinners);
+            pinners &= pinners - 1;
+
+            // a single friendly piece in between is pinned
+            long between = Attacks.between(friendlyKingSquare, pinnerSquare) & occupied;
+            if (Long.bitCount(between) == 1 && (between & board.getColorPieces(colorIndex)) != 0) {
+                int pinnedSquare = Long.numberOfTrailingZeros(between);
+                pinnedPieces |= between;
+                pinRays[pinnedSquare] = Attacks.line(friendlyKingSquare, pinnerSquare);
+            }
+
+        }
+
+    }
+
+    public boolean isInCheck() {
+        return checkers != 0;
+    }
+
+    public boolean isPseudoLegal() {
+        return pseudoLegal;
+    }
+
+    // makes generateCaptures and generateQuiets give pseudo legal moves
+    public void setPseudoLegal(boolean pseudoLegal) {
+        this.pseudoLegal = pseudoLegal;
+    }
+
+    public boolean canEnPassant(int row, int col, Board board) {
+        return board.getEnPassantCol() != -1 && row == board.calcEPRow() && Math.abs(col - board.getEnPassantCol()) == 1;
+    }
+
+    // en passant takes two pawns off the board and puts one back, so it is played out on the occupancy alone: it is
+    // illegal if a slider then sees the king along a row or diagonal (through the squares the pawns leave, or along the
+    // file of a pawn pinned on it), or if the king is in check from a knight or pawn other than the one taken. Only looks
+    // along the king's lines, without allocating. After prepare
+    public boolean isEnPassantLegal(int row, int col, int targetRow, int targetCol, Board board) {
+
+        int oppIndex = board.turnToOppColorIndex();
+        long capturedBit = 1L << Board.toSquare(row, targetCol);
+        long occupied = board.getOccupied() & ~(1L << Board.toSquare(row, col)) & ~capturedBit | 1L << Board.toSquare(targetRow, targetCol);
+
+        long oppDiagonal = board.getPieces(oppIndex, bishopIndex) | board.getPieces(oppIndex, queenIndex);
+        long oppStraight = board.getPieces(oppIndex, rookIndex) | board.getPieces(oppIndex, queenIndex);
+
+        // checks from sliders are found again below with the new occupancy
+        if ((checkers & ~oppDiagonal & ~oppStraight & ~capturedBit) != 0) {
+            return false;
+        }
+
+        return (Attacks.bishopAttacks(friendlyKingSquare, occupied) & oppDiagonal) == 0
+                && (Attacks.rookAttacks(friendlyKingSquare, occupied) & oppStraight) == 0;
+
+    }
+
+    @Override
+    public String toString() {
+        return "moveCount: " + (moveList == null ? 0 : moveList.size()) +
+                ", enemyTargetedSquares: " + Long.toHexString(enemyTargetedSquares) +
+                ", friendlyKingSquare: " + friendlyKingSquare +
+                ", checkers: " + Long.toHexString(checkers) +
+                ", checkMask: " + Long.toHexString(checkMask) +
+                ", inDoubleCheck: " + inDoubleCheck +
+                ", pinnedPieces: " + Long.toHexString(pinnedPieces);
+    }
+
+
+}
@@ -0,0 +1,54 @@
+package chess;
+
+public class MoveList {
+
+    // most legal moves possible in any position
+    public static final int MAX_MOVES = 256;
+
+    // moves packed into ints, see Move.encode
+    private final int [] moves;
+    private int size;
+
+    public MoveList() {
+        moves = new int[MAX_MOVES];
+        size = 0;
+    }
+
+    public void add(int move) {
+        moves[size++] = move;
+    }
+
+    public int get(int index) {
+        return moves[index];
+    }
+
+    public void set(int index, int move) {
+        moves[index] = move;
+    }
+
+    // removes the move at the index by moving the last move into its place, so the order isn't kept
+    public void remove(int index) {
+        moves[index] = moves[--size];
+    }
+
+    public void swap(int index1, int index2) {
+
+        int temp = moves[index1];
+        moves[index1] = moves[index2];
+        moves[index2] = temp;
+
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+}
@@ -0,0 +1,120 @@
+package chess;
+
+import java.util.Arrays;
+
+public class MoveOrdering {
+
+    // every history score is halved once one passes this. That keeps the scores bounded, and makes cutoffs from long
+    // ago count for less than recent ones
+    public static final int MAX_HISTORY = 1 << 14;
+
+    // two quiet moves per ply that last caused a beta cutoff. A move that refuted one line is likely to refute its
+    // sibling lines too
+    private final int [][] killers;
+    // butterfly history: how often a quiet move from a square to a square caused a cutoff, weighted by depth,
+    // indexed by color index, start square and target square
+    private final int [][][] history;
+
+    // nodes that failed high, and how many of them did so on the first move searched. The closer the two are, the
+    // better the moves are ordered
+    private long betaCutoffs;
+    private long firstMoveCutoffs;
+
+    public MoveOrdering() {
+
+        killers = new int[Engine.MAX_PLY + 1][2];
+        history = new int[2][64][64];
+        betaCutoffs = 0;
+        firstMoveCutoffs = 0;
+
+    }
+
+    // called at the start of a search. Killers are only good for the position they were found in, while history
+    // is kept but halved so the last search counts for less
+    public void newSearch() {
+
+        for (int [] plyKillers : killers) {
+            plyKillers[0] = 0;
+            plyKillers[1] = 0;
+        }
+        ageHistory();
+        betaCutoffs = 0;
+        firstMoveCutoffs = 0;
+
+    }
+
+    // forgets everything, for a new game
+    public void clear() {
+
+        newSearch();
+        for (int [][] colorHistory : history) {
+            for (int [] squareHistory : colorHistory) {
+                Arrays.fill(squareHistory, 0);
+            }
+        }
+
+    }
+
+    // called when a move causes a beta cutoff. Captures and promotions are already ordered by what they win, so only
+    // quiet moves become killers or get history
+    public void cutoff(int move, int ply, int depth, int colorIndex, int moveNumber) {
+
+        betaCutoffs++;
+        if (moveNumber == 0) {
+            firstMoveCutoffs++;
+        }
+
+        if (!isQuiet(move)) {
+            return;
+        }
+
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+
+        int [] squareHistory = history[colorIndex][Move.getStart(move)];
+        squareHistory[Move.getTarget(move)] += depth * depth;
+        if (squareHistory[Move.getTarget(move)] > MAX_HISTORY) {
+            ageHistory();
+        }
+
+    }
+
+    private void ageHistory() {
+
+        for (int [][] colorHistory : history) {
+            for (int [] squareHistory : colorHistory) {
+                for (int i = 0; i < 64; i++) {
+                    squareHistory[i] /= 2;
+                }
+            }
+        }
+
+    }
+
+    // captures and promotions are not quiet
+    public static boolean isQuiet(int move) {
+
+        int type = Move.getTypeValue(move);
+        return !Move.isCapture(move) && (type < MoveType.PROMOTE_BISHOP.getValue() || type > MoveType.PROMOTE_QUEEN.getValue());
+
+    }
+
+    public int getKiller(int ply, int slot) {
+        return killers[ply][slot];
+    }
+
+    public int getHistory(int colorIndex, int move) {
+        return history[colorIndex][Move.getStart(move)][Move.getTarget(move)];
+    }
+
+    public long getBetaCutoffs() {
+        return betaCutoffs;
+    }
+
+    public long getFirstMoveCutoffs() {
+        return firstMoveCutoffs;
+    }
+
+}
@@ -0,0 +1,260 @@
+package chess;
+
+public class MovePicker {
+
+    // stages the picker goes through. Each stage's moves are only generated once the stages before it are used up, so a
+    // node that cuts off on the hash move generates no moves at all, and one that cuts off on a capture or a killer
+    // never generates its quiet moves
+    private static final int HASH_MOVE = 0;
+    private static final int GENERATE_CAPTURES = 1;
+    private static final int GOOD_CAPTURES = 2;
+    private static final int KILLERS = 3;
+    private static final int GENERATE_QUIETS = 4;
+    private static final int QUIETS = 5;
+    private static final int LOSING_CAPTURES = 6;
+    private static final int DONE = 7;
+
+    // added to the score of a capture that loses material, so it sorts below every capture that doesn't
+    private static final int LOSING_CAPTURE_SCORE = -(1 << 24);
+
+    // every picker has its own generator, since a position's checks and pins are needed again for its quiet moves after
+    // its captures' child positions have been searched
+    private final MoveGenerator moveGenerator;
+    private final MoveOrdering moveOrdering;
+    private final StaticExchange staticExchange;
+
+    // captures and promotions, ordered by MVV-LVA with the losing ones last
+    private final MoveList captures;
+    private final int [] captureScores;
+    // the other moves, ordered by history
+    private final MoveList quiets;
+    private final int [] quietScores;
+
+    private Board board;
+    private int hashMove;
+    private int ply;
+    // quiet moves are only picked if this is false, or the side to move is in check
+    private boolean capturesOnly;
+    private int stage;
+    // moves before these indices have already been returned
+    private int captureIndex;
+    private int quietIndex;
+    private int killerIndex;
+    // killers for this ply when the picker started, so the quiet stage can skip them
+    private int killer1;
+    private int killer2;
+    private int movesPicked;
+    private boolean lastMoveLosing;
+
+    public MovePicker(MoveOrdering moveOrdering, StaticExchange staticExchange) {
+
+        moveGenerator = new MoveGenerator();
+        this.moveOrdering = moveOrdering;
+        this.staticExchange = staticExchange;
+
+        captures = new MoveList();
+        captureScores = new int[MoveList.MAX_MOVES];
+        quiets = new MoveList();
+        quietScores = new int[MoveList.MAX_MOVES];
+
+    }
+
+    // starts picking the board's legal moves. The hash move is 0 if there isn't one. With capturesOnly, only captures
+    // and promotions are picked, unless the side to move is in check, for the quiescence search. Finds checks and pins,
+    // but generates nothing yet
+    public void init(Board board, int hashMove, int ply, boolean capturesOnly) {
+
+        this.board = board;
+        this.hashMove = hashMove;
+        this.ply = ply;
+        this.capturesOnly = capturesOnly;
+
+        moveGenerator.prepare(board);
+
+        stage = HASH_MOVE;
+        captureIndex = 0;
+        quietIndex = 0;
+        killerIndex = 0;
+        killer1 = moveOrdering.getKiller(ply, 0);
+        killer2 = moveOrdering.getKiller(ply, 1);
+        movesPicked = 0;
+        lastMoveLosing = false;
+
+    }
+
+    // returns the next best move, or 0 once every move has been returned. Each call only looks for the best of the moves
+    // left in its stage, so a node that cuts off early never pays for ordering a whole list
+    public int next() {
+
+        while (true) {
+
+            switch (stage) {
+                case HASH_MOVE -> {
+
+                    stage = GENERATE_CAPTURES;
+
+                    // the hash move came from the table, so it could be from another position with the same slot
+                    if (hashMove != 0 && moveGenerator.isLegalMove(board, hashMove)) {
+                        return picked(hashMove, false);
+                    }
+
+                }
+                case GENERATE_CAPTURES -> {
+
+                    moveGenerator.generateCaptures(board, captures);
+                    for (int i = 0; i < captures.size(); i++) {
+                        int move = captures.get(i);
+                        boolean losing = Move.isCapture(move) && staticExchange.isLosing(board, move);
+                        captureScores[i] = captureOrder(move) + (losing ? LOSING_CAPTURE_SCORE : 0);
+                    }
+                    stage = GOOD_CAPTURES;
+
+                }
+                case GOOD_CAPTURES -> {
+
+                    if (captureIndex < captures.size()) {
+
+                        selectBest(captures, captureScores, captureIndex);
+                        if (captureScores[captureIndex] >= 0) {
+                            int move = captures.get(captureIndex++);
+                            if (move != hashMove && isLegal(move)) {
+                                return picked(move, false);
+                            }
+                            continue;
+                        }
+
+                    }
+                    stage = capturesOnly && !moveGenerator.isInCheck() ? LOSING_CAPTURES : KILLERS;
+
+                }
+                case KILLERS -> {
+
+                    // killers come from sibling positions, so they are checked before being played
+                    while (killerIndex < 2) {
+                        int killer = killerIndex++ == 0 ? killer1 : killer2;
+                        if (killer != 0 && killer != hashMove && moveGenerator.isLegalMove(board, killer)) {
+                            return picked(killer, false);
+                        }
+                    }
+                    stage = GENERATE_QUIETS;
+
+                }
+                case GENERATE_QUIETS -> {
+
+                    moveGenerator.generateQuiets(board, quiets);
+                    int colorIndex = board.turnToColorIndex();
+                    for (int i = 0; i < quiets.size(); i++) {
+                        quietScores[i] = moveOrdering.getHistory(colorIndex, quiets.get(i));
+                    }
+                    stage = QUIETS;
+
+                }
+                case QUIETS -> {
+
+                    if (quietIndex < quiets.size()) {
+
+                        selectBest(quiets, quietScores, quietIndex);
+                        int move = quiets.get(quietIndex++);
+                        if (move != hashMove && move != killer1 && move != killer2 && isLegal(move)) {
+                            return picked(move, false);
+                        }
+                        continue;
+
+                    }
+                    stage = LOSING_CAPTURES;
+
+                }
+                case LOSING_CAPTURES -> {
+
+                    if (captureIndex < captures.size()) {
+
+                        selectBest(captures, captureScores, captureIndex);
+                        int move = captures.get(captureIndex++);
+                        if (move != hashMove && isLegal(move)) {
+                            return picked(move, true);
+                        }
+                        continue;
+
+                    }
+                    stage = DONE;
+
+                }
+                default -> {
+                    return 0;
+                }
+            }
+
+        }
+
+    }
+
+    // generated moves only need checking if they are pseudo legal. They are checked as they are picked, so moves after a
+    // cutoff are never checked. The hash move and killers are fully checked by isLegalMove
+    private boolean isLegal(int move) {
+        return !moveGenerator.isPseudoLegal() || moveGenerator.isLegal(board, move);
+    }
+
+    private int picked(int move, boolean losing) {
+
+        movesPicked++;
+        lastMoveLosing = losing;
+        return move;
+
+    }
+
+    // selection: swaps the best move from the index on to the index
+    private static void selectBest(MoveList moves, int [] scores, int index) {
+
+        int best = index;
+        for (int i = index + 1; i < moves.size(); i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+
+        moves.swap(index, best);
+        int temp = scores[index];
+        scores[index] = scores[best];
+        scores[best] = temp;
+
+    }
+
+    // true if the last move returned was a capture that loses material, going by static exchange evaluation. Losing
+    // captures come after every other move, so once one is returned the rest are too
+    public boolean isLosingCapture() {
+        return lastMoveLosing;
+    }
+
+    // moves returned so far, so the last one returned is number getMoveNumber() - 1. If next has returned 0 and this is
+    // 0 there are no legal moves
+    public int getMoveNumber() {
+        return movesPicked;
+    }
+
+    public boolean isInCheck() {
+        return moveGenerator.isInCheck();
+    }
+
+    // generates pseudo legal moves and checks each one as it is picked, instead of generating legal moves
+    public void setPseudoLegal(boolean pseudoLegal) {
+        moveGenerator.setPseudoLegal(pseudoLegal);
+    }
+
+    // most valuable victim first, then least valuable attacker. Promotions add the value of the piece promoted to, so
+    // queen promotions come before the rest
+    public static int captureOrder(int move) {
+
+        int victim = Move.getCapturedPiece(move);
+        int order = victim == 0 ? 0 : Evaluator.getPieceValue(victim) * 8 - Move.getMovedPiece(move);
+
+        int type = Move.getTypeValue(move);
+        if (type >= MoveType.PROMOTE_BISHOP.getValue() && type <= MoveType.PROMOTE_QUEEN.getValue()) {
+            // promotion move type values are the number of the piece promoted to
+            order += Evaluator.getPieceValue(type);
+        }
+
+        return order;
+
+    }
+
+}
@@ -0,0 +1,31 @@
+package chess;
+
+public enum MoveType {
+
+    NORMAL(0), EN_PASSANT(1), CASTLE_KING(6), CASTLE_QUEEN(7),
+    PROMOTE_BISHOP(2), PROMOTE_KNIGHT(3), PROMOTE_ROOK(4), PROMOTE_QUEEN(5);
+
+    // move types indexed by their value
+    private static final MoveType [] BY_VALUE = new MoveType[8];
+
+    static {
+        for (MoveType type : values()) {
+            BY_VALUE[type.value] = type;
+        }
+    }
+
+    private final int value;
+
+    MoveType(int value) {
+        this.value = value;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    public static MoveType fromValue(int value) {
+        return BY_VALUE[value];
+    }
+
+}
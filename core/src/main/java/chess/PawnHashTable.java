@@ -0,0 +1,113 @@
+package chess;
+
+import java.util.Arrays;
+
+public class PawnHashTable {
+
+    // each entry is 4 longs: pawn key, packed scores, white passed pawns, black passed pawns. Every search thread has
+    // its own Evaluator and so its own table, so entries don't need guarding against other threads
+    private static final int LONGS_PER_ENTRY = 4;
+
+    private long [] table;
+    private int indexMask;
+
+    private long hits;
+    private long misses;
+
+    public PawnHashTable(int sizeMB) {
+        resize(sizeMB);
+    }
+
+    // reallocates the table, which clears it
+    public void resize(int sizeMB) {
+
+        int entries = HashTables.entries(sizeMB, LONGS_PER_ENTRY);
+
+        table = new long[entries * LONGS_PER_ENTRY];
+        indexMask = entries - 1;
+        resetStats();
+
+    }
+
+    public void clear() {
+
+        Arrays.fill(table, 0L);
+        resetStats();
+
+    }
+
+    // returns the index of the entry for a pawn key, or -1 if it isn't in the table. The entry is read with the getters.
+    // A position with no pawns has key 0, which matches empty entries, and their zero scores and masks are right for it
+    public int probe(long pawnKey) {
+
+        int index = index(pawnKey);
+
+        if (table[index] == pawnKey) {
+            hits++;
+            return index;
+        }
+
+        misses++;
+        return -1;
+
+    }
+
+    // stores the pawn structure scores and passed pawns of a pawn key, returning the index of the entry
+    public int store(long pawnKey, int score, int endScore, long whitePassedPawns, long blackPassedPawns) {
+
+        int index = index(pawnKey);
+
+        table[index] = pawnKey;
+        table[index + 1] = (long) endScore << 32 | score & 0xFFFFFFFFL;
+        table[index + 2] = whitePassedPawns;
+        table[index + 3] = blackPassedPawns;
+
+        return index;
+
+    }
+
+    private int index(long pawnKey) {
+        return ((int) pawnKey & indexMask) * LONGS_PER_ENTRY;
+    }
+
+    // middlegame pawn structure score of an entry, positive if better for white
+    public int getScore(int index) {
+        return (int) table[index + 1];
+    }
+
+    // endgame pawn structure score of an entry, positive if better for white
+    public int getEndScore(int index) {
+        return (int) (table[index + 1] >> 32);
+    }
+
+    // passed pawns of a color in an entry. Index 0 for white, index 1 for black
+    public long getPassedPawns(int index, int colorIndex) {
+        return table[index + 2 + colorIndex];
+    }
+
+    public void resetStats() {
+        hits = misses = 0L;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public double getHitRate() {
+        return HashTables.hitRate(hits, misses);
+    }
+
+    public int getSizeMB() {
+        return HashTables.getSizeMB(table);
+    }
+
+    @Override
+    public String toString() {
+        return "Pawn hash " + getSizeMB() + "MB: hits " + hits + ", misses " + misses + " (" + String.format("%.1f", getHitRate()) + "% hit rate)";
+    }
+
+}
@@ -0,0 +1,299 @@
+package chess;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+public class Perft {
+
+    // perft hash size used when the hash is turned on without a size
+    public static final int DEFAULT_HASH_MB = 64;
+
+    private final String fen;
+    private final int depth;
+    private final Game game;
+    private final MoveGenerator moveGenerator;
+    // move list for each ply so the search doesn't allocate
+    private MoveList [] moveLists;
+    // threads used by the parallel count
+    private int parallelism;
+    // how many plies below the root the parallel count splits into separate tasks
+    private int splitDepth;
+    // node counts of subtrees already counted, or null if the hash is off
+    private PerftTable perftTable;
+    // counts the last ply with MoveGenerator.countLegalMoves instead of filling a move list
+    private boolean bulkCounting;
+    // generates pseudo legal moves and checks each with MoveGenerator.isLegal, instead of generating legal moves
+    private boolean pseudoLegal;
+
+    public Perft(String fen, int depth) {
+
+        this.fen = fen;
+        this.depth = depth;
+        game = new Game(fen);
+        moveGenerator = new MoveGenerator();
+        moveLists = new MoveList[0];
+        parallelism = Runtime.getRuntime().availableProcessors();
+        splitDepth = 1;
+        perftTable = null;
+        bulkCounting = false;
+        pseudoLegal = false;
+
+    }
+
+    public void printNodeCount() {
+
+        System.out.println("Attack tables initialized in " + Attacks.getInitNanos() / 1000 + " microseconds");
+
+        for (int i = 1; i <= depth; i++) {
+            long startTime = System.nanoTime();
+            long nodes = getNodes(i);
+            long nanos = System.nanoTime() - startTime;
+            System.out.println("Depth: " + i + " ply\tResult: " + nodes + " positions     Time: " + nanos / 1000000 + " milliseconds     " + nodesPerSecond(nodes, nanos) + " nps");
+        }
+
+        if (perftTable != null) {
+            System.out.println(perftTable);
+        }
+
+    }
+
+    // counts every depth both ways, showing how much faster the parallel count is
+    public void printParallelNodeCount() {
+
+        System.out.println("Parallel perft with " + parallelism + " threads, splitting " + splitDepth + " ply below the root");
+
+        for (int i = 1; i <= depth; i++) {
+
+            long startTime = System.nanoTime();
+            long nodes = getNodes(i);
+            long sequentialNanos = System.nanoTime() - startTime;
+
+            startTime = System.nanoTime();
+            long parallelNodes = getNodesParallel(i);
+            long parallelNanos = System.nanoTime() - startTime;
+
+            System.out.println("Depth: " + i + " ply\tResult: " + parallelNodes + " positions" + (parallelNodes == nodes ? "" : " (sequential got " + nodes + ")") +
+                    "     Sequential: " + sequentialNanos / 1000000 + " ms, " + nodesPerSecond(nodes, sequentialNanos) + " nps" +
+                    "     Parallel: " + parallelNanos / 1000000 + " ms, " + nodesPerSecond(parallelNodes, parallelNanos) + " nps" +
+                    "     Speedup: " + String.format("%.2f", (double) sequentialNanos / Math.max(1, parallelNanos)) + "x");
+
+        }
+
+        if (perftTable != null) {
+            System.out.println(perftTable);
+        }
+
+    }
+
+    // prints the count under each root move in the same format as other engines' divide / go perft, so the counts
+    // can be compared line by line to find a move generator bug
+    public void printDivide(int depth) {
+
+        long startTime = System.nanoTime();
+        Map<String, Long> divide = getDivide(depth);
+        long nanos = System.nanoTime() - startTime;
+
+        long nodes = 0;
+        for (Map.Entry<String, Long> entry : divide.entrySet()) {
+            System.out.println(entry.getKey() + ": " + entry.getValue());
+            nodes += entry.getValue();
+        }
+
+        System.out.println();
+        System.out.println("Nodes searched: " + nodes);
+        System.out.println("Time: " + nanos / 1000000 + " milliseconds     " + nodesPerSecond(nodes, nanos) + " nps");
+
+    }
+
+    // node count under each root move, keyed by the move in UCI notation, in generation order
+    public Map<String, Long> getDivide(int depth) {
+
+        if (moveLists.length <= depth) {
+            moveLists = createMoveLists(depth);
+        }
+
+        Board board = game.getBoard();
+        MoveList rootMoves = new MoveList();
+        moveGenerator.generateLegalMoves(board, rootMoves);
+
+        Map<String, Long> divide = new LinkedHashMap<>();
+
+        for (int i = 0; i < rootMoves.size(); i++) {
+
+            board.makeMove(rootMoves.get(i));
+            divide.put(Move.toString(rootMoves.get(i)), countNodes(board, moveGenerator, moveLists, perftTable, bulkCounting, depth - 1));
+            board.unmakeMove();
+
+        }
+
+        return divide;
+
+    }
+
+    public long getNodes(int depth) {
+
+        if (moveLists.length <= depth) {
+            moveLists = createMoveLists(depth);
+        }
+
+        return countNodes(game.getBoard(), moveGenerator, moveLists, perftTable, bulkCounting, depth);
+
+    }
+
+    // splits the moves near the root into fork join tasks, each counting on its own copy of the board
+    public long getNodesParallel(int depth) {
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            return pool.invoke(new PerftTask(new Board(game.getBoard()), perftTable, bulkCounting, pseudoLegal, depth, splitDepth + 1));
+        } finally {
+            pool.shutdown();
+        }
+
+    }
+
+    // counts the positions depth plies from the board, leaving the board as it was. Subtree counts are looked up in and
+    // added to the perft table if there is one
+    public static long countNodes(Board board, MoveGenerator moveGenerator, MoveList [] moveLists, PerftTable perftTable, boolean bulkCounting, int depth) {
+
+        if (depth == 0) {
+            return 1;
+        }
+
+        boolean pseudoLegal = moveGenerator.isPseudoLegal();
+
+        if (depth == 1 && bulkCounting && !pseudoLegal) {
+            return moveGenerator.countLegalMoves(board);
+        }
+
+        // counting depth 1 is cheaper than a table lookup
+        boolean useTable = perftTable != null && depth > 1;
+        if (useTable) {
+            long cached = perftTable.probe(board.getKey(), depth);
+            if (cached >= 0) {
+                return cached;
+            }
+        }
+
+        MoveList legalMoves = moveLists[depth];
+        if (pseudoLegal) {
+            moveGenerator.generatePseudoLegalMoves(board, legalMoves);
+            removeIllegalMoves(board, moveGenerator, legalMoves);
+        } else {
+            moveGenerator.generateLegalMoves(board, legalMoves);
+        }
+
+        if (depth == 1) {
+            return legalMoves.size();
+        }
+
+        long numPos = 0;
+
+        for (int i = 0; i < legalMoves.size(); i++) {
+
+            board.makeMove(legalMoves.get(i));
+            numPos += countNodes(board, moveGenerator, moveLists, perftTable, bulkCounting, depth - 1);
+            board.unmakeMove();
+        }
+
+        if (useTable) {
+            perftTable.store(board.getKey(), depth, numPos);
+        }
+
+        return numPos;
+
+    }
+
+    // isLegal needs the generator to still be on this position, and every move gets counted anyway, so pseudo legal moves
+    // are all checked before going down into any of them
+    private static void removeIllegalMoves(Board board, MoveGenerator moveGenerator, MoveList moves) {
+
+        int i = 0;
+        while (i < moves.size()) {
+            if (moveGenerator.isLegal(board, moves.get(i))) {
+                i++;
+            } else {
+                moves.remove(i);
+            }
+        }
+
+    }
+
+    public static MoveList [] createMoveLists(int depth) {
+
+        MoveList [] moveLists = new MoveList[depth + 1];
+        for (int i = 0; i <= depth; i++) {
+            moveLists[i] = new MoveList();
+        }
+        return moveLists;
+
+    }
+
+    private static long nodesPerSecond(long nodes, long nanos) {
+        return nanos == 0 ? 0 : nodes * 1000000000L / nanos;
+    }
+
+    public String getStartingFen() {
+        return fen;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public boolean isHashEnabled() {
+        return perftTable != null;
+    }
+
+    // turns the perft hash on with the default size, or off
+    public void setHashEnabled(boolean hashEnabled) {
+        setHashSize(hashEnabled ? DEFAULT_HASH_MB : 0);
+    }
+
+    // turns the perft hash on with a size in MB, or off with 0
+    public void setHashSize(int sizeMB) {
+        perftTable = sizeMB > 0 ? new PerftTable(sizeMB) : null;
+    }
+
+    public PerftTable getPerftTable() {
+        return perftTable;
+    }
+
+    public boolean isBulkCounting() {
+        return bulkCounting;
+    }
+
+    public void setBulkCounting(boolean bulkCounting) {
+        this.bulkCounting = bulkCounting;
+    }
+
+    public boolean isPseudoLegal() {
+        return pseudoLegal;
+    }
+
+    public void setPseudoLegal(boolean pseudoLegal) {
+
+        this.pseudoLegal = pseudoLegal;
+        moveGenerator.setPseudoLegal(pseudoLegal);
+
+    }
+
+    public int getSplitDepth() {
+        return splitDepth;
+    }
+
+    public void setSplitDepth(int splitDepth) {
+        this.splitDepth = Math.max(0, splitDepth);
+    }
+
+}
@@ -0,0 +1,98 @@
+package chess;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PerftTable {
+
+    // each entry is 2 longs: key ^ data and data, so parallel perft tasks share the table without locking the same way
+    // search threads share the TranspositionTable
+    private static final int LONGS_PER_ENTRY = 2;
+
+    // data is packed as: bits 0-55 node count, bits 56-63 depth
+    private static final int DEPTH_SHIFT = 56;
+    private static final long NODES_MASK = (1L << DEPTH_SHIFT) - 1;
+
+    private final long [] table;
+    private final int indexMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PerftTable(int sizeMB) {
+
+        int entries = HashTables.entries(sizeMB, LONGS_PER_ENTRY);
+
+        table = new long[entries * LONGS_PER_ENTRY];
+        indexMask = entries - 1;
+
+    }
+
+    // returns the node count of a position at a depth, or -1 if it isn't in the table
+    public long probe(long key, int depth) {
+
+        int index = index(key, depth);
+        long data = table[index + 1];
+
+        if (data != 0L && (table[index] ^ data) == key && (int) (data >>> DEPTH_SHIFT) == depth) {
+            hits.increment();
+            return data & NODES_MASK;
+        }
+
+        misses.increment();
+        return -1;
+
+    }
+
+    // always replaces, since deep entries are rare and get stored again soon if they're lost
+    public void store(long key, int depth, long nodes) {
+
+        int index = index(key, depth);
+        long data = (long) depth << DEPTH_SHIFT | nodes & NODES_MASK;
+
+        table[index] = key ^ data;
+        table[index + 1] = data;
+
+    }
+
+    // the same position at different depths goes in different entries
+    private int index(long key, int depth) {
+        return ((int) (key ^ key >>> 32) + depth * 0x9E3779B9 & indexMask) * LONGS_PER_ENTRY;
+    }
+
+    public void clear() {
+
+        Arrays.fill(table, 0L);
+        resetStats();
+
+    }
+
+    public void resetStats() {
+
+        hits.reset();
+        misses.reset();
+
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        return HashTables.hitRate(getHits(), getMisses());
+    }
+
+    public int getSizeMB() {
+        return HashTables.getSizeMB(table);
+    }
+
+    @Override
+    public String toString() {
+        return "Perft hash " + getSizeMB() + "MB: hits " + getHits() + ", misses " + getMisses() + " (" + String.format("%.1f", getHitRate()) + "% hit rate)";
+    }
+
+}
@@ -0,0 +1,67 @@
+package chess;
+
+import java.util.concurrent.RecursiveTask;
+
+// fork join tasks are serializable, but perft tasks are never serialized
+@SuppressWarnings("serial")
+public class PerftTask extends RecursiveTask<Long> {
+
+    // position to count from. Each task owns its copy, so tasks never share a board
+    private final Board board;
+    // subtree counts shared by all tasks, or null if the hash is off
+    private final PerftTable perftTable;
+    // counts the last ply without filling move lists
+    private final boolean bulkCounting;
+    // generates pseudo legal moves and checks them one at a time
+    private final boolean pseudoLegal;
+    private final int depth;
+    // how many more plies to split into subtasks before counting on this thread
+    private final int splitDepth;
+
+    public PerftTask(Board board, PerftTable perftTable, boolean bulkCounting, boolean pseudoLegal, int depth, int splitDepth) {
+
+        this.board = board;
+        this.perftTable = perftTable;
+        this.bulkCounting = bulkCounting;
+        this.pseudoLegal = pseudoLegal;
+        this.depth = depth;
+        this.splitDepth = splitDepth;
+
+    }
+
+    @Override
+    protected Long compute() {
+
+        MoveGenerator moveGenerator = new MoveGenerator();
+        moveGenerator.setPseudoLegal(pseudoLegal);
+
+        // small subtrees aren't worth the cost of copying boards for
+        if (splitDepth <= 0 || depth <= 2) {
+            return Perft.countNodes(board, moveGenerator, Perft.createMoveLists(depth), perftTable, bulkCounting, depth);
+        }
+
+        MoveList legalMoves = new MoveList();
+        moveGenerator.generateLegalMoves(board, legalMoves);
+
+        PerftTask [] subtasks = new PerftTask[legalMoves.size()];
+
+        for (int i = 0; i < legalMoves.size(); i++) {
+
+            Board child = new Board(board);
+            child.makeMove(legalMoves.get(i));
+            subtasks[i] = new PerftTask(child, perftTable, bulkCounting, pseudoLegal, depth - 1, splitDepth - 1);
+
+        }
+
+        invokeAll(subtasks);
+
+        long numPos = 0;
+        for (PerftTask subtask : subtasks) {
+            numPos += subtask.join();
+        }
+
+        return numPos;
+
+    }
+
+}
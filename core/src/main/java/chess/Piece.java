@@ -1,3 +1,5 @@
+package chess;
+
 public interface Piece {
 
     // piece numbers for each piece
@@ -0,0 +1,101 @@
+package chess;
+
+public class SearchLimits {
+
+    // how deep to search, in plies
+    private int depth;
+    // exact time to spend on the move, 0 if not set
+    private long moveTimeMillis;
+    // time left on each side's clock and increment per move. Index 0 for white, index 1 for black. 0 if not set
+    private final long [] timeLeftMillis;
+    private final long [] incrementMillis;
+    // moves left until the next time control, 0 if the rest of the game has to be played on the clock
+    private int movesToGo;
+    // search until told to stop
+    private boolean infinite;
+
+    public SearchLimits() {
+
+        depth = Engine.MAX_PLY;
+        moveTimeMillis = 0;
+        timeLeftMillis = new long[2];
+        incrementMillis = new long[2];
+        movesToGo = 0;
+        infinite = false;
+
+    }
+
+    // limits for searching to a fixed depth
+    public static SearchLimits depth(int depth) {
+
+        SearchLimits limits = new SearchLimits();
+        limits.setDepth(depth);
+        return limits;
+
+    }
+
+    // limits for searching for a fixed amount of time
+    public static SearchLimits moveTime(long moveTimeMillis) {
+
+        SearchLimits limits = new SearchLimits();
+        limits.setMoveTime(moveTimeMillis);
+        return limits;
+
+    }
+
+    // true if the search has a clock or move time to keep to
+    public boolean isTimed() {
+        return !infinite && (moveTimeMillis > 0 || timeLeftMillis[0] > 0 || timeLeftMillis[1] > 0);
+    }
+
+    // Getter methods:
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getMoveTime() {
+        return moveTimeMillis;
+    }
+
+    public long getTimeLeft(int colorIndex) {
+        return timeLeftMillis[colorIndex];
+    }
+
+    public long getIncrement(int colorIndex) {
+        return incrementMillis[colorIndex];
+    }
+
+    public int getMovesToGo() {
+        return movesToGo;
+    }
+
+    public boolean isInfinite() {
+        return infinite;
+    }
+
+    // Setter methods:
+    public void setDepth(int depth) {
+        this.depth = Math.max(1, Math.min(depth, Engine.MAX_PLY));
+    }
+
+    public void setMoveTime(long moveTimeMillis) {
+        this.moveTimeMillis = moveTimeMillis;
+    }
+
+    public void setTimeLeft(int colorIndex, long timeLeftMillis) {
+        this.timeLeftMillis[colorIndex] = timeLeftMillis;
+    }
+
+    public void setIncrement(int colorIndex, long incrementMillis) {
+        this.incrementMillis[colorIndex] = incrementMillis;
+    }
+
+    public void setMovesToGo(int movesToGo) {
+        this.movesToGo = movesToGo;
+    }
+
+    public void setInfinite(boolean infinite) {
+        this.infinite = infinite;
+    }
+
+}
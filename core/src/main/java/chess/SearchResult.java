@@ -0,0 +1,98 @@
+package chess;
+
+public class SearchResult {
+
+    // best move found, packed into an int, 0 if there were no legal moves
+    private final int bestMove;
+    // score from the side to move's point of view, in centipawns or mate scores (see Engine.MATE_SCORE)
+    private final int score;
+    // depth that was searched
+    private final int depth;
+    // positions visited by the search
+    private final long nodes;
+    // how long the search took
+    private final long timeMillis;
+    // principal variation, the line both sides are expected to play, starting with the best move
+    private final int [] principalVariation;
+
+    public SearchResult(int bestMove, int score, int depth, long nodes, long timeMillis, int [] principalVariation) {
+
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.timeMillis = timeMillis;
+        this.principalVariation = principalVariation;
+
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    // best move as a Move object, null if there were no legal moves
+    public Move getBest() {
+        return bestMove == 0 ? null : new Move(bestMove);
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public int[] getPrincipalVariation() {
+        return principalVariation;
+    }
+
+    // nodes searched per second
+    public long getNodesPerSecond() {
+        return nodes * 1000 / Math.max(1, timeMillis);
+    }
+
+    public boolean isMate() {
+        return Math.abs(score) >= Engine.MATE_BOUND;
+    }
+
+    // moves until mate, positive if the side to move is mating, negative if it is getting mated
+    public int getMateIn() {
+
+        int plies = Engine.MATE_SCORE - Math.abs(score);
+        int moves = (plies + 1) / 2;
+        return score > 0 ? moves : -moves;
+
+    }
+
+    // principal variation in start square + target square notation, separated by spaces
+    public String principalVariationToString() {
+
+        StringBuilder sb = new StringBuilder();
+        for (int move : principalVariation) {
+            if (!sb.isEmpty()) {
+                sb.append(" ");
+            }
+            sb.append(Move.toString(move));
+        }
+        return sb.toString();
+
+    }
+
+    @Override
+    public String toString() {
+
+        String scoreString = isMate() ? "mate " + getMateIn() : "cp " + score;
+        return "depth " + depth + " score " + scoreString + " nodes " + nodes + " nps " + getNodesPerSecond() + " time " + timeMillis + " pv " + principalVariationToString();
+
+    }
+
+}
@@ -0,0 +1,380 @@
+package chess;
+
+public class SearchWorker {
+
+    // bigger than any score
+    private static final int INFINITY = 32000;
+    // the clock is checked every this many nodes (minus 1, as a mask), since reading it on every node is too slow
+    private static final long NODE_CHECK_MASK = 2047;
+    // a capture that can't bring the score within this much of alpha, even winning the piece for free, isn't searched
+    private static final int DELTA_MARGIN = 200;
+
+    // engine this worker searches for, which owns the shared transposition table and stop flag
+    private final Engine engine;
+    // worker 0 is the main worker: it keeps to the time limits and its result is the one returned
+    private final int id;
+
+    // every worker has its own copy of the position and its own scratch state, so workers never share anything mutable
+    // except the transposition table
+    private Board board;
+    private final MoveGenerator moveGenerator;
+    private final Evaluator evaluator;
+    // legal moves at the root, so there is a move to give even if the first iteration is cut off
+    private final MoveList rootMoves;
+    // move picker for each ply so the search doesn't allocate. The pickers generate the moves
+    private final MovePicker [] movePickers;
+    // killers and history, shared by the pickers
+    private final MoveOrdering moveOrdering;
+    private final StaticExchange staticExchange;
+    // triangular principal variation table: pvTable[ply] holds the best line found from that ply
+    private final int [][] pvTable;
+    private final int [] pvLength;
+    // positions visited by this worker in the current search
+    private long nodes;
+    private boolean stopped;
+
+    public SearchWorker(Engine engine, int id) {
+
+        this.engine = engine;
+        this.id = id;
+
+        board = null;
+        moveGenerator = new MoveGenerator();
+        evaluator = new Evaluator(engine.getPawnHashSize());
+
+        moveOrdering = new MoveOrdering();
+        staticExchange = new StaticExchange();
+        rootMoves = new MoveList();
+        movePickers = new MovePicker[Engine.MAX_PLY + 1];
+        for (int i = 0; i <= Engine.MAX_PLY; i++) {
+            movePickers[i] = new MovePicker(moveOrdering, staticExchange);
+            movePickers[i].setPseudoLegal(engine.isPseudoLegal());
+        }
+
+        pvTable = new int[Engine.MAX_PLY + 1][Engine.MAX_PLY + 1];
+        pvLength = new int[Engine.MAX_PLY + 1];
+        nodes = 0;
+        stopped = false;
+
+    }
+
+    // copies the position to search, including its history for finding repetitions, and clears the node count
+    public void setPosition(Board board) {
+
+        this.board = new Board(board);
+        nodes = 0;
+
+    }
+
+    // iterative deepening: searches 1 ply deeper each iteration until the depth or time runs out, returning the
+    // result of the last iteration that finished. Each iteration starts with the moves the last one found best
+    public SearchResult iterativeDeepening(SearchLimits limits) {
+
+        TimeManager timeManager = engine.getTimeManager();
+        nodes = 0;
+        stopped = false;
+        moveOrdering.newSearch();
+        moveGenerator.generateLegalMoves(board, rootMoves);
+
+        SearchResult result = null;
+
+        // helper workers with odd ids start a ply deeper, so the workers spread out over different depths
+        int startDepth = isMainWorker() ? 1 : 1 + id % 2;
+
+        for (int depth = Math.min(startDepth, limits.getDepth()); depth <= limits.getDepth(); depth++) {
+
+            int score = negamax(depth, 0, -INFINITY, INFINITY);
+
+            // a search that was cut off part way through can't be trusted, unless there is nothing else
+            if (stopped && result != null) {
+                break;
+            }
+
+            result = createResult(score, depth, timeManager.getElapsedMillis());
+            if (isMainWorker()) {
+                engine.iterationFinished(result);
+            }
+
+            if (stopped || isMainWorker() && timeManager.isPastSoftDeadline()) {
+                break;
+            }
+
+        }
+
+        return result;
+
+    }
+
+    private SearchResult createResult(int score, int depth, long timeMillis) {
+
+        int [] principalVariation = new int[pvLength[0]];
+        System.arraycopy(pvTable[0], 0, principalVariation, 0, pvLength[0]);
+
+        // if the first iteration was cut off, any legal move is better than none
+        if (principalVariation.length == 0 && !rootMoves.isEmpty()) {
+            principalVariation = new int[] {rootMoves.get(0)};
+        }
+        int bestMove = principalVariation.length > 0 ? principalVariation[0] : 0;
+
+        return new SearchResult(bestMove, score, depth, nodes, timeMillis, principalVariation);
+
+    }
+
+    // alpha beta search, returning the score from the side to move's point of view
+    private int negamax(int depth, int ply, int alpha, int beta) {
+
+        nodes++;
+        pvLength[ply] = 0;
+
+        if ((nodes & NODE_CHECK_MASK) == 0 && (engine.isStopRequested() || isMainWorker() && engine.getTimeManager().isPastHardDeadline())) {
+            stopped = true;
+        }
+        if (stopped) {
+            return 0;
+        }
+
+        // repeating a position or hitting the 50 move rule is a draw
+        if (ply > 0 && (board.countRepetitions() > 0 || board.getFiftyMoveCount() >= 100)) {
+            return 0;
+        }
+
+        if (ply == Engine.MAX_PLY) {
+            return evaluator.getScore(board) * board.getTurn();
+        }
+
+        // instead of stopping in the middle of an exchange, captures are played out until the position is quiet
+        if (depth == 0) {
+            return quiescence(ply, alpha, beta);
+        }
+
+        // positions searched before to at least this depth may not need searching again. The root is always searched so it has a best move
+        TranspositionTable transpositionTable = engine.getTranspositionTable();
+        long key = board.getKey();
+        long entry = transpositionTable.probe(key);
+        int hashMove = TranspositionTable.getMove(entry);
+
+        if (entry != 0L && ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+
+            int hashScore = scoreFromTable(TranspositionTable.getScore(entry), ply);
+
+            switch (TranspositionTable.getBound(entry)) {
+                case TranspositionTable.EXACT -> {return hashScore;}
+                case TranspositionTable.LOWER_BOUND -> {if (hashScore >= beta) {return hashScore;}}
+                case TranspositionTable.UPPER_BOUND -> {if (hashScore <= alpha) {return hashScore;}}
+            }
+
+        }
+
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        int bestMove = 0;
+
+        MovePicker movePicker = movePickers[ply];
+        movePicker.init(board, hashMove, ply, false);
+        int move;
+
+        while ((move = movePicker.next()) != 0) {
+
+            board.makeMove(move);
+            int score = -negamax(depth - 1, ply + 1, -beta, -alpha);
+            board.unmakeMove();
+
+            // scores from a stopped search are meaningless, so nothing is kept from this node
+            if (stopped) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+
+                bestScore = score;
+                bestMove = move;
+
+                if (score > alpha) {
+
+                    alpha = score;
+                    updatePrincipalVariation(ply, move);
+
+                    if (alpha >= beta) {
+                        moveOrdering.cutoff(move, ply, depth, board.turnToColorIndex(), movePicker.getMoveNumber() - 1);
+                        break;
+                    }
+
+                }
+
+            }
+
+        }
+
+        // checkmate or stalemate. Closer mates score higher
+        if (movePicker.getMoveNumber() == 0) {
+            return movePicker.isInCheck() ? -Engine.MATE_SCORE + ply : 0;
+        }
+
+        int bound;
+        if (bestScore <= originalAlpha) {bound = TranspositionTable.UPPER_BOUND;}
+        else if (bestScore >= beta) {bound = TranspositionTable.LOWER_BOUND;}
+        else {bound = TranspositionTable.EXACT;}
+
+        transpositionTable.store(key, bestMove, scoreToTable(bestScore, ply), depth, bound);
+
+        return bestScore;
+
+    }
+
+    // searches only captures and promotions, so leaf positions are scored once nothing is hanging. The side to move can
+    // always stand pat on the static score instead of capturing, unless it is in check, where every move is searched
+    private int quiescence(int ply, int alpha, int beta) {
+
+        nodes++;
+        pvLength[ply] = 0;
+
+        if ((nodes & NODE_CHECK_MASK) == 0 && (engine.isStopRequested() || isMainWorker() && engine.getTimeManager().isPastHardDeadline())) {
+            stopped = true;
+        }
+        if (stopped) {
+            return 0;
+        }
+
+        int standPat = evaluator.getScore(board) * board.getTurn();
+
+        if (ply == Engine.MAX_PLY) {
+            return standPat;
+        }
+
+        // only captures and promotions are picked, unless in check
+        MovePicker movePicker = movePickers[ply];
+        movePicker.init(board, 0, ply, true);
+        boolean inCheck = movePicker.isInCheck();
+
+        if (!inCheck) {
+
+            if (standPat >= beta) {
+                return standPat;
+            }
+            alpha = Math.max(alpha, standPat);
+
+        }
+
+        int bestScore = inCheck ? -INFINITY : standPat;
+        int move;
+
+        while ((move = movePicker.next()) != 0) {
+
+            // captures that lose material by static exchange are left out, and the picker puts them last, so the rest
+            // would be too
+            if (!inCheck && movePicker.isLosingCapture()) {
+                break;
+            }
+
+            // delta pruning: skips captures that can't raise alpha even with a margin for the positional gain
+            if (!inCheck && !isPromotion(move) && standPat + Evaluator.getPieceValue(Move.getCapturedPiece(move)) + DELTA_MARGIN <= alpha) {
+                continue;
+            }
+
+            board.makeMove(move);
+            int score = -quiescence(ply + 1, -beta, -alpha);
+            board.unmakeMove();
+
+            if (stopped) {
+                return 0;
+            }
+
+            if (score > bestScore) {
+
+                bestScore = score;
+
+                if (score > alpha) {
+
+                    alpha = score;
+                    updatePrincipalVariation(ply, move);
+
+                    if (alpha >= beta) {
+                        break;
+                    }
+
+                }
+
+            }
+
+        }
+
+        // in check with no way out
+        if (inCheck && movePicker.getMoveNumber() == 0) {
+            return -Engine.MATE_SCORE + ply;
+        }
+
+        return bestScore;
+
+    }
+
+    private static boolean isPromotion(int move) {
+
+        int type = Move.getTypeValue(move);
+        return type >= MoveType.PROMOTE_BISHOP.getValue() && type <= MoveType.PROMOTE_QUEEN.getValue();
+
+    }
+
+    // the best line from this ply is the move followed by the best line from the next ply
+    private void updatePrincipalVariation(int ply, int move) {
+
+        pvTable[ply][0] = move;
+        System.arraycopy(pvTable[ply + 1], 0, pvTable[ply], 1, pvLength[ply + 1]);
+        pvLength[ply] = pvLength[ply + 1] + 1;
+
+    }
+
+    // mate scores are stored as distance from the position instead of from the root, so they can be used from any ply
+    private static int scoreToTable(int score, int ply) {
+
+        if (score >= Engine.MATE_BOUND) {return score + ply;}
+        if (score <= -Engine.MATE_BOUND) {return score - ply;}
+        return score;
+
+    }
+
+    private static int scoreFromTable(int score, int ply) {
+
+        if (score >= Engine.MATE_BOUND) {return score - ply;}
+        if (score <= -Engine.MATE_BOUND) {return score + ply;}
+        return score;
+
+    }
+
+    // forgets the killers, history and pawn structures found in the last game
+    public void newGame() {
+
+        moveOrdering.clear();
+        evaluator.getPawnHashTable().clear();
+
+    }
+
+    public boolean isMainWorker() {
+        return id == 0;
+    }
+
+    public void setPseudoLegal(boolean pseudoLegal) {
+
+        for (MovePicker movePicker : movePickers) {
+            movePicker.setPseudoLegal(pseudoLegal);
+        }
+
+    }
+
+    public MoveOrdering getMoveOrdering() {
+        return moveOrdering;
+    }
+
+    public Evaluator getEvaluator() {
+        return evaluator;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    // positions visited by this worker in the current or last search
+    public long getNodes() {
+        return nodes;
+    }
+
+}
@@ -1,3 +1,5 @@
+package chess;
+
 import java.util.Objects;
 
 public class Square {
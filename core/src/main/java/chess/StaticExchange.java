@@ -0,0 +1,146 @@
+package chess;
+
+public class StaticExchange implements Piece {
+
+    // most captures there can be on one square: every piece but the two kings, plus the kings themselves
+    private static final int MAX_CAPTURES = 32;
+    // pieces indices from least to most valuable, the order attackers join the exchange in
+    private static final int [] ATTACKER_ORDER = {pawnIndex, knightIndex, bishopIndex, rookIndex, queenIndex, kingIndex};
+
+    // gain[i] is the material won by the side making capture i, if the exchange stopped after it. Kept between calls so
+    // evaluating an exchange doesn't allocate, which means each search thread needs its own StaticExchange
+    private final int [] gain;
+
+    public StaticExchange() {
+        gain = new int[MAX_CAPTURES];
+    }
+
+    // static exchange evaluation: the material the side to move wins (or loses, if negative) by making the capture and
+    // then letting both sides keep recapturing on the target square with their least valuable piece, either side being
+    // free to stop when carrying on would lose more. Pieces lined up behind an attacker (x-rays) join once it has
+    // captured. Pins and checks are ignored
+    public int evaluate(Board board, int move) {
+
+        int start = Move.getStart(move);
+        int target = Move.getTarget(move);
+        int type = Move.getTypeValue(move);
+        long occupied = board.getOccupied();
+
+        int captured = Move.getCapturedPiece(move);
+        gain[0] = captured == noneNum ? 0 : Evaluator.getPieceValue(captured);
+        int attackerValue = Evaluator.getPieceValue(Move.getMovedPiece(move));
+
+        // promotion move type values are the number of the piece promoted to
+        if (type >= MoveType.PROMOTE_BISHOP.getValue() && type <= MoveType.PROMOTE_QUEEN.getValue()) {
+            attackerValue = Evaluator.getPieceValue(type);
+            gain[0] += attackerValue - Evaluator.getPieceValue(pawnNum);
+        }
+
+        // the pawn taken en passant isn't on the target square, but on the start square's row
+        if (type == MoveType.EN_PASSANT.getValue()) {
+            occupied &= ~(1L << (start & ~7 | target & 7));
+        }
+
+        occupied &= ~(1L << start);
+        long attackers = attackersTo(board, target, occupied) & occupied;
+        int colorIndex = board.turnToOppColorIndex();
+        int depth = 0;
+
+        while (true) {
+
+            long sideAttackers = attackers & board.getColorPieces(colorIndex);
+            if (sideAttackers == 0) {
+                break;
+            }
+
+            depth++;
+            // what this side has if it recaptures and then loses the recapturing piece
+            gain[depth] = attackerValue - gain[depth - 1];
+
+            // recapturing can't get this side more than gain[depth], since the other side can stop right after it. If
+            // that is less than stopping now gets it, it stops, so the exchange ends before this recapture. Only
+            // recaptures that can't change the result are cut, so the result is exact and not just its sign
+            if (gain[depth] < -gain[depth - 1]) {
+                depth--;
+                break;
+            }
+
+            int pieceIndex = leastValuableAttacker(board, sideAttackers, colorIndex);
+            long attackerBit = Long.lowestOneBit(sideAttackers & board.getPieces(colorIndex, pieceIndex));
+            occupied &= ~attackerBit;
+
+            // moving a pawn, bishop or queen off a diagonal, or a rook or queen off a line, can uncover a slider behind it
+            if (pieceIndex == pawnIndex || pieceIndex == bishopIndex || pieceIndex == queenIndex) {
+                attackers |= Attacks.bishopAttacks(target, occupied) & diagonalSliders(board);
+            }
+            if (pieceIndex == rookIndex || pieceIndex == queenIndex) {
+                attackers |= Attacks.rookAttacks(target, occupied) & straightSliders(board);
+            }
+            attackers &= occupied;
+
+            attackerValue = Evaluator.getPieceValue(pieceIndex + 1);
+            colorIndex = 1 - colorIndex;
+
+            // the king can only recapture last, since recapturing into a defended square would be illegal
+            if (pieceIndex == kingIndex && (attackers & board.getColorPieces(colorIndex)) != 0) {
+                depth--;
+                break;
+            }
+
+        }
+
+        // each side picks the better of stopping and carrying on, starting from the last capture
+        while (depth > 0) {
+            gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+            depth--;
+        }
+
+        return gain[0];
+
+    }
+
+    // true if the capture loses material. A capture taking a piece worth at least as much as the capturing piece can't,
+    // so those are answered without working out the exchange
+    public boolean isLosing(Board board, int move) {
+
+        int captured = Move.getCapturedPiece(move);
+        if (captured != noneNum && Evaluator.getPieceValue(captured) >= Evaluator.getPieceValue(Move.getMovedPiece(move))) {
+            return false;
+        }
+        return evaluate(board, move) < 0;
+
+    }
+
+    // pieces of both colors attacking a square, with sliders seeing through nothing but the given occupancy
+    public static long attackersTo(Board board, int square, long occupied) {
+
+        // a pawn attacks a square if a pawn of the other color on that square would attack it back
+        return Attacks.pawnAttacks(1, square) & board.getPieces(0, pawnIndex)
+                | Attacks.pawnAttacks(0, square) & board.getPieces(1, pawnIndex)
+                | Attacks.knightAttacks(square) & (board.getPieces(0, knightIndex) | board.getPieces(1, knightIndex))
+                | Attacks.kingAttacks(square) & (board.getPieces(0, kingIndex) | board.getPieces(1, kingIndex))
+                | Attacks.bishopAttacks(square, occupied) & diagonalSliders(board)
+                | Attacks.rookAttacks(square, occupied) & straightSliders(board);
+
+    }
+
+    private static int leastValuableAttacker(Board board, long sideAttackers, int colorIndex) {
+
+        for (int pieceIndex : ATTACKER_ORDER) {
+            if ((sideAttackers & board.getPieces(colorIndex, pieceIndex)) != 0) {
+                return pieceIndex;
+            }
+        }
+        return kingIndex;
+
+    }
+
+    private static long diagonalSliders(Board board) {
+        return board.getPieces(0, bishopIndex) | board.getPieces(1, bishopIndex) | board.getPieces(0, queenIndex) | board.getPieces(1, queenIndex);
+    }
+
+    private static long straightSliders(Board board) {
+        return board.getPieces(0, rookIndex) | board.getPieces(1, rookIndex) | board.getPieces(0, queenIndex) | board.getPieces(1, queenIndex);
+    }
+
+}
@@ -0,0 +1,69 @@
+package chess;
+
+public class TimeManager {
+
+    // moves the rest of the game is assumed to take when the time control doesn't say
+    private static final int DEFAULT_MOVES_TO_GO = 30;
+    // time kept back for the time it takes to send the move
+    private static final long MOVE_OVERHEAD_MILLIS = 10;
+
+    private long startNanos;
+    // no new iteration is started after this
+    private long softDeadlineNanos;
+    // the search is stopped right away after this
+    private long hardDeadlineNanos;
+    private boolean hasDeadline;
+
+    public TimeManager() {
+        hasDeadline = false;
+    }
+
+    // works out the deadlines for a search starting now, for the side with the given color index
+    public void start(SearchLimits limits, int colorIndex) {
+
+        startNanos = System.nanoTime();
+        hasDeadline = limits.isTimed();
+
+        if (!hasDeadline) {
+            return;
+        }
+
+        long softMillis;
+        long hardMillis;
+
+        if (limits.getMoveTime() > 0) {
+
+            // fixed time per move: use all of it
+            softMillis = hardMillis = Math.max(1, limits.getMoveTime() - MOVE_OVERHEAD_MILLIS);
+
+        } else {
+
+            long timeLeft = limits.getTimeLeft(colorIndex);
+            long increment = limits.getIncrement(colorIndex);
+            int movesToGo = limits.getMovesToGo() > 0 ? limits.getMovesToGo() : DEFAULT_MOVES_TO_GO;
+            long available = Math.max(1, timeLeft - MOVE_OVERHEAD_MILLIS);
+
+            // an even share of the clock plus most of the increment, and up to a few times that if an iteration runs long
+            softMillis = Math.min(available, available / movesToGo + increment * 3 / 4);
+            hardMillis = Math.min(available, Math.max(softMillis, Math.min(softMillis * 4, available / 3)));
+
+        }
+
+        softDeadlineNanos = startNanos + softMillis * 1_000_000;
+        hardDeadlineNanos = startNanos + hardMillis * 1_000_000;
+
+    }
+
+    public boolean isPastSoftDeadline() {
+        return hasDeadline && System.nanoTime() - softDeadlineNanos >= 0;
+    }
+
+    public boolean isPastHardDeadline() {
+        return hasDeadline && System.nanoTime() - hardDeadlineNanos >= 0;
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+}
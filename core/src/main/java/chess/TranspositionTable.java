@@ -0,0 +1,164 @@
+package chess;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TranspositionTable {
+
+    // bound types, saying if the stored score is exact or only a lower or upper bound on the real score
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    // each bucket holds 2 entries of 2 longs (key, data): a depth-preferred entry followed by an always-replace entry.
+    // The table is shared by all search threads without locking, so the key slot holds key ^ data: an entry torn by
+    // two threads writing at once no longer matches its key and is read as a miss
+    private static final int LONGS_PER_BUCKET = 4;
+
+    // data is packed as: bits 0-21 move, bits 22-37 score, bits 38-45 depth, bits 46-47 bound type
+    private static final int MOVE_BITS = 22;
+    private static final int SCORE_SHIFT = 22;
+    private static final int DEPTH_SHIFT = 38;
+    private static final int BOUND_SHIFT = 46;
+
+    private long [] table;
+    private int bucketMask;
+
+    // probe and store counters, for sizing the table
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    public TranspositionTable(int sizeMB) {
+        resize(sizeMB);
+    }
+
+    // clears the table, reallocating it at the size HashTables.entries gives. That can be smaller than sizeMB, so the
+    // size it ended up is getSizeMB
+    public void resize(int sizeMB) {
+
+        int buckets = HashTables.entries(sizeMB, LONGS_PER_BUCKET);
+
+        table = new long[buckets * LONGS_PER_BUCKET];
+        bucketMask = buckets - 1;
+        resetStats();
+
+    }
+
+    public void clear() {
+
+        Arrays.fill(table, 0L);
+        resetStats();
+
+    }
+
+    // returns the stored data for a position, or 0 if it isn't in the table
+    public long probe(long key) {
+
+        int index = bucketIndex(key);
+
+        for (int i = index; i < index + LONGS_PER_BUCKET; i += 2) {
+            long data = table[i + 1];
+            if (data != 0L && (table[i] ^ data) == key) {
+                hits.increment();
+                return data;
+            }
+        }
+
+        misses.increment();
+        if (table[index + 1] != 0L || table[index + 3] != 0L) {
+            collisions.increment();
+        }
+        return 0L;
+
+    }
+
+    // stores a search result. The first entry of the bucket keeps the deepest search, anything else goes in the second
+    public void store(long key, int move, int score, int depth, int bound) {
+
+        int index = bucketIndex(key);
+        long data = pack(move, score, depth, bound);
+        stores.increment();
+
+        long oldData = table[index + 1];
+        if (oldData == 0L || (table[index] ^ oldData) == key || depth >= getDepth(oldData)) {
+            table[index] = key ^ data;
+            table[index + 1] = data;
+        } else {
+            table[index + 2] = key ^ data;
+            table[index + 3] = data;
+        }
+
+    }
+
+    private int bucketIndex(long key) {
+        return ((int) key & bucketMask) * LONGS_PER_BUCKET;
+    }
+
+    public static long pack(int move, int score, int depth, int bound) {
+
+        return (long) move & ((1L << MOVE_BITS) - 1)
+                | ((long) score & 0xFFFFL) << SCORE_SHIFT
+                | ((long) depth & 0xFFL) << DEPTH_SHIFT
+                | (long) bound << BOUND_SHIFT;
+
+    }
+
+    public static int getMove(long data) {
+        return (int) (data & ((1L << MOVE_BITS) - 1));
+    }
+
+    public static int getScore(long data) {
+        return (short) (data >>> SCORE_SHIFT);
+    }
+
+    public static int getDepth(long data) {
+        return (int) (data >>> DEPTH_SHIFT & 0xFF);
+    }
+
+    public static int getBound(long data) {
+        return (int) (data >>> BOUND_SHIFT & 3);
+    }
+
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        collisions.reset();
+        stores.reset();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    // misses where the bucket was already holding other positions
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+
+    public int getSizeMB() {
+        return HashTables.getSizeMB(table);
+    }
+
+    @Override
+    public String toString() {
+
+        long hits = getHits();
+        return "TT " + getSizeMB() + "MB: probes " + (hits + getMisses()) +
+                ", hits " + hits + " (" + String.format("%.0f", HashTables.hitRate(hits, getMisses())) + "%)" +
+                ", misses " + getMisses() +
+                ", collisions " + getCollisions() +
+                ", stores " + getStores();
+
+    }
+
+}
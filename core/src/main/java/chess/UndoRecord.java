@@ -0,0 +1,51 @@
+package chess;
+
+public class UndoRecord {
+
+    // the move that was played, packed into an int
+    private int move;
+    // piece number that was captured by the move, 0 if no capture
+    private int capturedPiece;
+    // castling rights before the move, packed as bits (see Board.getCastlingBits)
+    private int castlingBits;
+    // fifty move count before the move
+    private int fiftyMoveCount;
+    // en passant column before the move, -1 if there was none
+    private int enPassantCol;
+
+    // stores the state that can't be recovered from the move itself
+    public void set(int move, int capturedPiece, int castlingBits, int fiftyMoveCount, int enPassantCol) {
+
+        this.move = move;
+        this.capturedPiece = capturedPiece;
+        this.castlingBits = castlingBits;
+        this.fiftyMoveCount = fiftyMoveCount;
+        this.enPassantCol = enPassantCol;
+
+    }
+
+    public void set(UndoRecord other) {
+        set(other.move, other.capturedPiece, other.castlingBits, other.fiftyMoveCount, other.enPassantCol);
+    }
+
+    public int getMove() {
+        return move;
+    }
+
+    public int getCapturedPiece() {
+        return capturedPiece;
+    }
+
+    public int getCastlingBits() {
+        return castlingBits;
+    }
+
+    public int getFiftyMoveCount() {
+        return fiftyMoveCount;
+    }
+
+    public int getEnPassantCol() {
+        return enPassantCol;
+    }
+
+}
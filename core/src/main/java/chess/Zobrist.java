@@ -0,0 +1,62 @@
+package chess;
+
+import java.util.SplittableRandom;
+
+public class Zobrist implements Piece {
+
+    // random keys xor-ed together to make a position's key. First index: white or black. Second index: Piece index. Third index: square
+    private static final long [][][] PIECE_KEYS = new long[2][6][64];
+    // xor-ed in when it is black's turn
+    private static final long SIDE_KEY;
+    // one key for every combination of castling rights bits (see Board.getCastlingBits)
+    private static final long [] CASTLING_KEYS = new long[16];
+    // xor-ed in for the column of the pawn that can be taken en passant
+    private static final long [] EN_PASSANT_KEYS = new long[8];
+
+    static {
+
+        // fixed seed so keys are the same every run
+        SplittableRandom random = new SplittableRandom(0x5DEECE66DL);
+
+        for (int color = 0; color < 2; color++) {
+            for (int pieceIndex = 0; pieceIndex < 6; pieceIndex++) {
+                for (int square = 0; square < 64; square++) {
+                    PIECE_KEYS[color][pieceIndex][square] = random.nextLong();
+                }
+            }
+        }
+
+        SIDE_KEY = random.nextLong();
+
+        for (int i = 0; i < CASTLING_KEYS.length; i++) {
+            CASTLING_KEYS[i] = random.nextLong();
+        }
+
+        for (int i = 0; i < EN_PASSANT_KEYS.length; i++) {
+            EN_PASSANT_KEYS[i] = random.nextLong();
+        }
+
+    }
+
+    private Zobrist() {
+    }
+
+    // key for a piece number (positive if white, negative if black) on a square
+    public static long pieceKey(int pieceNum, int square) {
+        return PIECE_KEYS[pieceNum > 0 ? 0 : 1][Math.abs(pieceNum) - 1][square];
+    }
+
+    public static long sideKey() {
+        return SIDE_KEY;
+    }
+
+    public static long castlingKey(int castlingBits) {
+        return CASTLING_KEYS[castlingBits];
+    }
+
+    // key for an en passant column, 0 if there is no en passant column
+    public static long enPassantKey(int enPassantCol) {
+        return enPassantCol == -1 ? 0L : EN_PASSANT_KEYS[enPassantCol];
+    }
+
+}
@@ -0,0 +1,128 @@
+package chess;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class BoardTest {
+
+    // plies played out from each position
+    private static final int DEPTH = 3;
+
+    private final FEN fen = new FEN();
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+
+    @ParameterizedTest
+    @MethodSource("chess.TestPositions#fens")
+    void keysMatchRecalculatedKeysAfterMakeAndUnmake(String startFen) {
+        walk(fen.setFen(startFen), DEPTH);
+    }
+
+    // a double pawn push only sets the en passant column, and so only changes the key, if an enemy pawn stands next to
+    // the pawn to take it. The last case has an enemy pawn on the square after the pawn's in square order, a row up
+    @ParameterizedTest(name = "{1} in {0}")
+    @CsvSource({
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1, e2e4, -1",
+            "4k3/8/8/8/3p4/8/4P3/4K3 w - - 0 1, e2e4, 4",
+            "4k3/8/8/8/5p2/8/4P3/4K3 w - - 0 1, e2e4, 4",
+            "4k3/3p4/8/4P3/8/8/8/4K3 b - - 0 1, d7d5, 3",
+            "4k3/8/8/8/8/p7/7P/4K3 w - - 0 1, h2h4, -1"
+    })
+    void doublePushSetsEnPassantOnlyIfItCanBeTaken(String startFen, String moveString, int enPassantCol) {
+
+        Board board = fen.setFen(startFen);
+        board.makeMove(findMove(board, moveString));
+
+        assertEquals(enPassantCol, board.getEnPassantCol());
+        assertEquals(fen.setFen(fen.getFen(board)).getKey(), board.getKey());
+
+    }
+
+    // the position after 1. e4 comes up again after the knights go out and back, since nothing could take on e3
+    @Test
+    void doublePushThatCantBeTakenRepeats() {
+
+        Board board = fen.setFen(FEN.startFen);
+        for (String moveString : new String[] {"e2e4", "g8f6", "g1f3", "f6g8", "f3g1"}) {
+            board.makeMove(findMove(board, moveString));
+        }
+
+        assertEquals(1, board.countRepetitions());
+
+    }
+
+    // a FEN en passant square nothing can take from is dropped, the same as after the push itself
+    @Test
+    void fenEnPassantSquareIsDroppedIfItCantBeTaken() {
+
+        Board board = fen.setFen("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1");
+
+        assertEquals(-1, board.getEnPassantCol());
+        assertEquals(fen.setFen("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1").getKey(), board.getKey());
+
+    }
+
+    private int findMove(Board board, String moveString) {
+
+        MoveList moves = new MoveList();
+        moveGenerator.generateLegalMoves(board, moves);
+
+        for (int i = 0; i < moves.size(); i++) {
+            if (Move.toString(moves.get(i)).equals(moveString)) {
+                return moves.get(i);
+            }
+        }
+        return fail(moveString + " isn't legal");
+
+    }
+
+    // plays every legal move to the depth, checking the incrementally updated keys against keys worked out from scratch
+    // after each move, and that unmaking the move gives back the same position and keys
+    private void walk(Board board, int depth) {
+
+        assertKeysRecalculated(board);
+
+        if (depth == 0) {
+            return;
+        }
+
+        MoveList moves = new MoveList();
+        moveGenerator.generateLegalMoves(board, moves);
+
+        String before = fen.getFen(board);
+        long key = board.getKey();
+        long pawnKey = board.getPawnKey();
+
+        for (int i = 0; i < moves.size(); i++) {
+
+            int move = moves.get(i);
+
+            board.makeMove(move);
+            walk(board, depth - 1);
+            board.unmakeMove();
+
+            String context = before + " after " + Move.toString(move);
+            assertEquals(before, fen.getFen(board), context);
+            assertEquals(key, board.getKey(), context);
+            assertEquals(pawnKey, board.getPawnKey(), context);
+
+        }
+
+    }
+
+    // a board set up from the position's FEN has its keys calculated from scratch
+    private void assertKeysRecalculated(Board board) {
+
+        String position = fen.getFen(board);
+        Board recalculated = fen.setFen(position);
+
+        assertEquals(recalculated.getKey(), board.getKey(), position);
+        assertEquals(recalculated.getPawnKey(), board.getPawnKey(), position);
+
+    }
+
+}
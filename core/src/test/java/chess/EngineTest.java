@@ -0,0 +1,87 @@
+package chess;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class EngineTest {
+
+    // a single threaded search is deterministic, so after newGame an engine searches exactly like a new one: nothing
+    // from the last game's table, killers, history or pawn hash is left to change the order moves are searched in
+    @Test
+    void newGameForgetsTheLastGame() {
+
+        Engine used = new Engine(TestPositions.KIWIPETE);
+        used.search(6);
+        used.newGame();
+        used.setPosition(FEN.startFen);
+        SearchResult afterNewGame = used.search(6);
+
+        SearchResult fresh = new Engine(FEN.startFen).search(6);
+
+        assertEquals(fresh.getNodes(), afterNewGame.getNodes());
+        assertEquals(fresh.getBestMove(), afterNewGame.getBestMove());
+        assertEquals(fresh.getScore(), afterNewGame.getScore());
+
+    }
+
+    // mate scores are MATE_SCORE less the plies to the mate, from the side to move's point of view (matePlies is
+    // negative when the side to move is the one mated). Depth 1 finds the mate in 1 in the quiescence search, and the
+    // deeper searches have to keep the shortest mate when longer ones are found as well
+    @ParameterizedTest(name = "{0} at depth {1}")
+    @CsvSource({
+            "6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1, 1, d1d8, 1",
+            "6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1, 6, d1d8, 1",
+            "7k/8/8/8/8/8/R7/1R4K1 w - - 0 1, 4, , 3",
+            "7k/8/8/8/8/8/R7/1R4K1 w - - 0 1, 7, , 3",
+            "7k/R7/1R6/8/8/8/8/6K1 b - - 0 1, 5, h8g8, -2"
+    })
+    void findsMate(String fen, int depth, String bestMove, int matePlies) {
+
+        SearchResult result = new Engine(fen).search(depth);
+
+        int expected = matePlies > 0 ? Engine.MATE_SCORE - matePlies : -Engine.MATE_SCORE - matePlies;
+        assertEquals(expected, result.getScore());
+        if (bestMove != null) {
+            assertEquals(bestMove, Move.toString(result.getBestMove()));
+        }
+
+    }
+
+    // no legal moves: mated scores -MATE_SCORE at the root, and stalemate is a draw
+    @ParameterizedTest
+    @CsvSource({
+            "R5k1/5ppp/8/8/8/8/8/6K1 b - - 0 1, -30000",
+            "7k/5Q2/6K1/8/8/8/8/8 b - - 0 1, 0"
+    })
+    void scoresPositionWithNoMoves(String fen, int score) {
+
+        SearchResult result = new Engine(fen).search(3);
+
+        assertEquals(score, result.getScore());
+        assertEquals(0, result.getBestMove());
+
+    }
+
+    // white is a queen down, but the knight going back to c3 repeats the position after 1. Nc3, which is a draw
+    @Test
+    void repetitionIsADraw() {
+
+        Engine engine = new Engine("7k/7q/8/8/8/8/8/KN6 w - - 0 1");
+        for (String moveString : new String[] {"b1c3", "h8g8", "c3b1", "g8h8"}) {
+            Move move = engine.getGame().isValidMove(moveString);
+            assertNotNull(move, moveString);
+            engine.getGame().move(move);
+        }
+
+        SearchResult result = engine.search(4);
+
+        assertEquals(0, result.getScore());
+        assertEquals("b1c3", Move.toString(result.getBestMove()));
+
+    }
+
+}
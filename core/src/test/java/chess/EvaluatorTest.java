@@ -0,0 +1,21 @@
+package chess;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class EvaluatorTest {
+
+    // in debug mode getScore also works the score out from scratch, from the piece tables and a fresh pawn evaluation,
+    // and throws if the board's incremental scores or the pawn hash entry give a different score
+    @ParameterizedTest
+    @MethodSource("chess.TestPositions#fens")
+    void incrementalScoreMatchesFullScore(String fen) {
+
+        Evaluator evaluator = new Evaluator();
+        evaluator.setDebug(true);
+
+        TestPositions.walk(new FEN().setFen(fen), 3, evaluator::getScore);
+
+    }
+
+}
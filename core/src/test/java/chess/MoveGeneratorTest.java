@@ -0,0 +1,142 @@
+package chess;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class MoveGeneratorTest {
+
+    private final FEN fen = new FEN();
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private final MoveList moves = new MoveList();
+    private final MoveList captures = new MoveList();
+
+    // generating only captures and promotions gives the same moves as generating every legal move and keeping the
+    // ones that aren't quiet
+    @ParameterizedTest
+    @MethodSource("chess.TestPositions#fens")
+    void capturesAreTheLegalMovesThatArentQuiet(String startFen) {
+
+        TestPositions.walk(fen.setFen(startFen), 3, board -> {
+
+            moveGenerator.generateLegalMoves(board, moves);
+            int [] expected = Arrays.stream(toArray(moves)).filter(move -> !MoveOrdering.isQuiet(move)).sorted().toArray();
+
+            moveGenerator.generateLegalCaptures(board, captures);
+            int [] actual = Arrays.stream(toArray(captures)).sorted().toArray();
+
+            assertArrayEquals(expected, actual, fen.getFen(board));
+
+        });
+
+    }
+
+    // the pseudo legal moves that don't leave the king attacked once played are the legal moves, both as generated and
+    // as picked out with isLegal. En passant, castling, pins and checks all come up within 3 plies of the test positions
+    @ParameterizedTest
+    @MethodSource("chess.TestPositions#fens")
+    void legalMovesAreThePseudoLegalMovesThatKeepTheKingSafe(String startFen) {
+
+        MoveList pseudoLegalMoves = new MoveList();
+
+        TestPositions.walk(fen.setFen(startFen), 3, board -> {
+
+            moveGenerator.generateLegalMoves(board, moves);
+            int [] expected = Arrays.stream(toArray(moves)).sorted().toArray();
+
+            moveGenerator.generatePseudoLegalMoves(board, pseudoLegalMoves);
+            int [] pseudoLegal = toArray(pseudoLegalMoves);
+            int [] kingSafe = Arrays.stream(pseudoLegal).filter(move -> isKingSafeAfter(board, move)).sorted().toArray();
+            int [] checked = Arrays.stream(pseudoLegal).filter(move -> moveGenerator.isLegal(board, move)).sorted().toArray();
+
+            assertArrayEquals(expected, kingSafe, fen.getFen(board));
+            assertArrayEquals(expected, checked, fen.getFen(board));
+
+        });
+
+    }
+
+    // en passant that uncovers an attack on the king: along the row both pawns leave, along a diagonal through the
+    // captured pawn, along the file of a capturing pawn pinned on it, or a check from another piece it doesn't stop.
+    // Taking the pawn that gives check is legal
+    @ParameterizedTest(name = "{1} in {0}")
+    @CsvSource({
+            "8/8/8/KPp4r/8/8/8/7k w - c6 0 1, b5c6, false",
+            "8/8/8/KPp1N2r/8/8/8/7k w - c6 0 1, b5c6, true",
+            "8/8/8/8/k2Pp2Q/8/8/4K3 b - d3 0 1, e4d3, false",
+            "b3k3/8/8/3pP3/8/8/6K1/8 w - d6 0 1, e5d6, false",
+            "4r1k1/8/8/3pP3/8/8/8/4K3 w - d6 0 1, e5d6, false",
+            "7k/8/8/3pP3/8/5n2/8/4K3 w - d6 0 1, e5d6, false",
+            "7k/8/8/3pP3/4K3/8/8/8 w - d6 0 1, e5d6, true",
+            "7k/8/8/3pP3/8/8/8/4K3 w - d6 0 1, e5d6, true"
+    })
+    void enPassantLegality(String position, String moveString, boolean legal) {
+
+        Board board = fen.setFen(position);
+
+        moveGenerator.generateLegalMoves(board, moves);
+        assertEquals(legal, find(moves, moveString) != 0, "generated as legal");
+
+        moveGenerator.generatePseudoLegalMoves(board, moves);
+        int move = find(moves, moveString);
+        assertNotEquals(0, move, "generated as pseudo legal");
+        assertEquals(legal, moveGenerator.isLegal(board, move), "isLegal");
+
+    }
+
+    // plays the move and looks for attacks on the king of the side that moved. A castling king can't start on or
+    // cross an attacked square either
+    private static boolean isKingSafeAfter(Board board, int move) {
+
+        int type = Move.getTypeValue(move);
+        if (type == MoveType.CASTLE_KING.getValue() || type == MoveType.CASTLE_QUEEN.getValue()) {
+
+            int start = Move.getStart(move);
+            int crossed = (start + Move.getTarget(move)) / 2;
+            if (isAttacked(board, start, board.turnToOppColorIndex()) || isAttacked(board, crossed, board.turnToOppColorIndex())) {
+                return false;
+            }
+
+        }
+
+        board.makeMove(move);
+        int kingSquare = Long.numberOfTrailingZeros(board.getPieces(board.turnToOppColorIndex(), Piece.kingIndex));
+        boolean safe = !isAttacked(board, kingSquare, board.turnToColorIndex());
+        board.unmakeMove();
+
+        return safe;
+
+    }
+
+    private static boolean isAttacked(Board board, int square, int colorIndex) {
+        return (StaticExchange.attackersTo(board, square, board.getOccupied()) & board.getColorPieces(colorIndex)) != 0;
+    }
+
+    private static int find(MoveList moveList, String moveString) {
+
+        for (int i = 0; i < moveList.size(); i++) {
+            if (Move.toString(moveList.get(i)).equals(moveString)) {
+                return moveList.get(i);
+            }
+        }
+        return 0;
+
+    }
+
+    private static int [] toArray(MoveList moveList) {
+
+        int [] array = new int[moveList.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = moveList.get(i);
+        }
+        return array;
+
+    }
+
+}
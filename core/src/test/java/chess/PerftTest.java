@@ -0,0 +1,111 @@
+package chess;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PerftTest {
+
+    // published perft counts for the positions in TestPositions.fens, at depths deep enough to split several plies
+    @ParameterizedTest(name = "{0} at depth {1}")
+    @CsvSource(delimiter = ';', value = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1; 5; 4865609",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1; 4; 4085603",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1; 5; 674624",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1; 4; 422333",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8; 4; 2103487"
+    })
+    void parallelCountMatchesKnownCounts(String fen, int depth, long nodes) {
+
+        // no split counts on one thread, and deeper splits hand copies of the board down to tasks of tasks
+        for (int splitDepth = 0; splitDepth <= 2; splitDepth++) {
+
+            Perft perft = new Perft(fen, depth);
+            perft.setParallelism(4);
+            perft.setSplitDepth(splitDepth);
+            perft.setBulkCounting(true);
+
+            assertEquals(nodes, perft.getNodesParallel(depth), "split depth " + splitDepth);
+
+        }
+
+    }
+
+    // the start position reaches the same positions by different move orders, and kiwipete and the endgame have en
+    // passant captures, so a key missing the en passant column or castling rights would give wrong counts. The table is
+    // kept small so entries get replaced as well
+    @ParameterizedTest(name = "{0} at depth {1}")
+    @CsvSource(delimiter = ';', value = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1; 5; 4865609",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1; 4; 4085603",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1; 5; 674624"
+    })
+    void hashedCountMatchesKnownCounts(String fen, int depth, long nodes) {
+
+        Perft perft = new Perft(fen, depth);
+        perft.setHashSize(1);
+
+        assertEquals(nodes, perft.getNodes(depth));
+        assertTrue(perft.getPerftTable().getHits() > 0, "no transpositions found");
+
+        // the parallel count shares the table between threads, and starts with it already full
+        perft.setParallelism(4);
+        assertEquals(nodes, perft.getNodesParallel(depth));
+
+    }
+
+    // the same pieces with and without an en passant capture open, and with a double push that can't be taken, so
+    // positions only told apart by the en passant column come up in the same table
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+            "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 1",
+            "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq - 0 1",
+            "4k3/2p1p3/8/3P4/8/8/4P3/4K3 b - - 0 1"
+    })
+    void hashedCountMatchesUnhashedCountWithEnPassant(String fen) {
+
+        Perft perft = new Perft(fen, 5);
+        long nodes = perft.getNodes(5);
+
+        perft.setHashEnabled(true);
+
+        assertEquals(nodes, perft.getNodes(5));
+
+    }
+
+    // divide has an entry for every root move, and its counts add up to the perft count
+    @ParameterizedTest
+    @MethodSource("chess.TestPositions#fens")
+    void divideCountsAddUpToTheTotal(String fen) {
+
+        Perft perft = new Perft(fen, 4);
+        Map<String, Long> divide = perft.getDivide(4);
+
+        MoveList rootMoves = new MoveList();
+        new MoveGenerator().generateLegalMoves(new FEN().setFen(fen), rootMoves);
+
+        assertEquals(rootMoves.size(), divide.size());
+        assertEquals(perft.getNodes(4), divide.values().stream().mapToLong(Long::longValue).sum());
+
+    }
+
+    // counting the last ply without filling move lists gives the same count under every root move
+    @ParameterizedTest
+    @MethodSource("chess.TestPositions#fens")
+    void bulkCountingMatchesCountingEveryMove(String fen) {
+
+        Perft perft = new Perft(fen, 4);
+        Map<String, Long> divide = perft.getDivide(4);
+
+        perft.setBulkCounting(true);
+
+        assertEquals(divide, perft.getDivide(4));
+
+    }
+
+}
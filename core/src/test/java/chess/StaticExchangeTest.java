@@ -0,0 +1,57 @@
+package chess;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class StaticExchangeTest {
+
+    private final StaticExchange staticExchange = new StaticExchange();
+
+    // material won by the capture with the middlegame values (pawn 100, bishop 330, knight 320, rook 500, queen 900).
+    // The first two are the usual examples: a rook taking an undefended pawn, and a knight taking a pawn where the
+    // x-rayed rook and queen behind the bishop and rook make the exchange lose the knight for a pawn. The last one is a
+    // promotion the king takes back, losing the new queen rather than letting it keep the knight
+    @ParameterizedTest(name = "{1} in {0}")
+    @CsvSource({
+            "1k1r4/1pp4p/p7/4p3/8/P5P1/1PP4P/2K1R3 w - - 0 1, e1e5, 100",
+            "1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1, d3e5, -220",
+            "4k3/8/8/3p4/4P3/8/8/4K3 w - - 0 1, e4d5, 100",
+            "4k3/8/2p5/3p4/4P3/8/8/4K3 w - - 0 1, e4d5, 0",
+            "4k3/8/2p5/3p4/8/8/8/3QK3 w - - 0 1, d1d5, -800",
+            "3rk3/8/8/3p4/8/8/3R4/3RK3 w - - 0 1, d2d5, 100",
+            "3rk3/3r4/8/3p4/8/8/3R4/3QK3 w - - 0 1, d2d5, -400",
+            "4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1, e5d6, 100",
+            "4k3/4p3/8/3pP3/8/8/8/4K3 w - d6 0 1, e5d6, 0",
+            "4k3/8/8/3q4/4K3/8/8/8 w - - 0 1, e4d5, 900",
+            "1n2k3/P7/8/8/8/8/8/4K3 w - - 0 1, a7b8q, 1120",
+            "1nk5/P7/8/8/8/8/8/4K3 w - - 0 1, a7b8q, 220"
+    })
+    void evaluatesExchange(String fen, String moveString, int expected) {
+
+        Board board = new FEN().setFen(fen);
+        int move = findMove(board, moveString);
+
+        assertEquals(expected, staticExchange.evaluate(board, move));
+        assertEquals(expected < 0, staticExchange.isLosing(board, move));
+
+    }
+
+    private static int findMove(Board board, String moveString) {
+
+        MoveList moves = new MoveList();
+        new MoveGenerator().generateLegalMoves(board, moves);
+
+        for (int i = 0; i < moves.size(); i++) {
+            if (Move.toString(moves.get(i)).equals(moveString)) {
+                return moves.get(i);
+            }
+        }
+
+        return fail(moveString + " isn't legal");
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package chess;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// positions the tests play moves out from, and a walk over every position reached from them
+final class TestPositions {
+
+    static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+    private TestPositions() {
+    }
+
+    // start position, kiwipete (castling, en passant, promotions after captures), a pinned en passant endgame, a
+    // position with promotions and castling rights lost by captures, and one with checks from every piece. Every move
+    // type comes up within 3 plies of these
+    static Stream<String> fens() {
+
+        return Stream.of(
+                FEN.startFen,
+                KIWIPETE,
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+                "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8");
+
+    }
+
+    // calls the visitor with the board in every position reached by playing legal moves to the depth, the first
+    // position included. The board is back in the first position afterwards
+    static void walk(Board board, int depth, Consumer<Board> visitor) {
+
+        visitor.accept(board);
+
+        if (depth == 0) {
+            return;
+        }
+
+        MoveList moves = new MoveList();
+        new MoveGenerator().generateLegalMoves(board, moves);
+
+        for (int i = 0; i < moves.size(); i++) {
+            board.makeMove(moves.get(i));
+            walk(board, depth - 1, visitor);
+            board.unmakeMove();
+        }
+
+    }
+
+}
@@ -1,10 +0,0 @@
-public class Main {
-    public static void main(String[] args) {
-
-        String startingFEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
-
-        Game game = new Game();
-        game.play();
-
-    }
-}
\ No newline at end of file